@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ServerSocketFactory;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Local server answering with the JSON fixtures of the tests
+ *
+ * @since 1.5.0
+ */
+public class BenchmarkServer implements Closeable {
+
+    private static final String CONTENT_TYPE = "application/hal+json; charset=utf-8";
+
+    private final MockWebServer server = new MockWebServer();
+
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+    public BenchmarkServer() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = bodies.get(request.getPath());
+                if (body == null) {
+                    return new MockResponse().setResponseCode(404);
+                }
+
+                return new MockResponse()
+                    .setResponseCode("POST".equals(request.getMethod()) ? 201 : 200)
+                    .addHeader("Content-Type", CONTENT_TYPE)
+                    .setBody(body);
+            }
+        });
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+    }
+
+    /**
+     * Returns the absolute url of the path
+     *
+     * @param path Path
+     * @return Url
+     */
+    public String url(final String path) {
+        return server.url(path).toString();
+    }
+
+    /**
+     * Serves a fixture of src/test/resources/responses, with its links pointing to the /api path of this server
+     *
+     * @param path Path
+     * @param fixture Name of the fixture without extension
+     * @return This server
+     */
+    public BenchmarkServer fixture(final String path, final String fixture) {
+        return body(path, fixture(fixture));
+    }
+
+    /**
+     * Serves a body
+     *
+     * @param path Path
+     * @param body Body
+     * @return This server
+     */
+    public BenchmarkServer body(final String path, final String body) {
+        bodies.put(path, body);
+
+        return this;
+    }
+
+    /**
+     * Generates a HAL collection with the given number of embedded items
+     *
+     * @param size Number of items
+     * @return Body
+     */
+    public String collection(final int size) {
+        String api = url("/api");
+        StringBuilder body = new StringBuilder("{\"_links\":{\"self\":{\"href\":\"").append(api).append("/jedi\"}},")
+            .append("\"_embedded\":{\"jedi\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(i)
+                .append(",\"name\":\"Jedi ").append(i).append('"')
+                .append(",\"_links\":{\"self\":{\"href\":\"").append(api).append("/jedi/").append(i).append("\"},")
+                .append("\"lightSaber\":{\"href\":\"").append(api).append("/jedi/").append(i).append("/saber\"}}}");
+        }
+
+        return body.append("]},\"page\":{\"size\":").append(size).append(",\"totalElements\":").append(size)
+            .append(",\"totalPages\":1,\"number\":0}}").toString();
+    }
+
+    private String fixture(final String name) {
+        try (InputStream in = getClass().getResourceAsStream(String.format("/responses/%s.json", name));
+             Scanner scanner = new Scanner(in, "UTF-8")) {
+            return scanner.useDelimiter("\\A").next().replace("http://old-republic.com", url("/api"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * Disables Nagle's algorithm on accepted connections, otherwise delayed ACKs add ~40ms to every response
+     */
+    private static class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+        public ServerSocket createServerSocket() throws IOException {
+            return new ServerSocket() {
+
+                @Override
+                public Socket accept() throws IOException {
+                    Socket socket = super.accept();
+                    socket.setTcpNoDelay(true);
+
+                    return socket;
+                }
+            };
+        }
+
+        public ServerSocket createServerSocket(final int port) throws IOException {
+            return createServerSocket(port, 50);
+        }
+
+        public ServerSocket createServerSocket(final int port, final int backlog) throws IOException {
+            return createServerSocket(port, backlog, null);
+        }
+
+        public ServerSocket createServerSocket(final int port, final int backlog, final InetAddress address) throws IOException {
+            ServerSocket socket = createServerSocket();
+            try {
+                socket.bind(new InetSocketAddress(address, port), backlog);
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+
+            return socket;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.TraversonResult;
+import com.smoope.utils.traverson.benchmark.Resources.JediCollection;
+import com.smoope.utils.traverson.codec.HalTypeAdapterFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Decoding HAL collections with the reflective Gson binding and with the hand-written HAL adapters
+ *
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    private static final Type RESOURCE = new TypeToken<TraversonResult<JsonElement>>() { }.getType();
+
+    @Param({ "reflective", "hal" })
+    private String adapters;
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private Gson gson;
+
+    private String body;
+
+    @Setup
+    public void setUp() throws IOException {
+        gson = "hal".equals(adapters)
+            ? new GsonBuilder().registerTypeAdapterFactory(new HalTypeAdapterFactory()).create()
+            : new Gson();
+        try (BenchmarkServer server = new BenchmarkServer()) {
+            body = server.collection(size);
+        }
+    }
+
+    @Benchmark
+    public TraversonResult<JsonElement> resource() {
+        return gson.fromJson(body, RESOURCE);
+    }
+
+    @Benchmark
+    public JediCollection collection() {
+        return gson.fromJson(body, JediCollection.class);
+    }
+}
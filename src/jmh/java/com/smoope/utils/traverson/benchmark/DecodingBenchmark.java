@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.Traverson;
+import com.smoope.utils.traverson.benchmark.Resources.JediCollection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+/**
+ * Fetching and decoding collections of several sizes
+ *
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class DecodingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private BenchmarkServer server;
+
+    private Traverson traverson;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new BenchmarkServer().fixture("/api", "root.hal");
+        server.body("/api/jedi", server.collection(size));
+        traverson = new Traverson.Builder(server.url("/api")).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Benchmark
+    public JediCollection collection() throws IOException {
+        return traverson.follow("jedi").get(JediCollection.class);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.Traverson;
+import com.smoope.utils.traverson.benchmark.Resources.Jedi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Preparing requests: merging default and per-traversal headers and serializing bodies. The request to the
+ * local server is included, so compare the variants with each other rather than reading absolute numbers.
+ *
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class RequestBenchmark {
+
+    private BenchmarkServer server;
+
+    private Traverson traverson;
+
+    private String itemUrl;
+
+    private Jedi jedi;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new BenchmarkServer()
+            .fixture("/api", "root.hal")
+            .fixture("/api/jedi", "item.hal");
+        traverson = new Traverson.Builder(server.url("/api"))
+            .defaultHeader("Accept", "application/hal+json")
+            .defaultHeader("Accept-Language", "en")
+            .defaultHeader("X-Client", "benchmark")
+            .defaultHeader("X-Tenant", "old-republic")
+            .build();
+        itemUrl = server.url("/api/jedi");
+        jedi = new Jedi("Luke Skywalker", "Master", Arrays.asList("Obi-Wan Kenobi", "Yoda"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Benchmark
+    public Jedi defaultHeaders() throws IOException {
+        return traverson.followUri(itemUrl).get(Jedi.class);
+    }
+
+    @Benchmark
+    public Jedi mergedHeaders() throws IOException {
+        return traverson.followUri(itemUrl)
+            .withHeader("X-Request-Id", "1")
+            .withHeader("Accept-Language", "de")
+            .get(Jedi.class);
+    }
+
+    @Benchmark
+    public Jedi post() throws IOException {
+        return traverson.follow("jedi").post(jedi, Jedi.class);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.TraversonResult;
+
+import java.util.List;
+
+/**
+ * Resources of the fixtures
+ *
+ * @since 1.5.0
+ */
+public final class Resources {
+
+    private Resources() {
+    }
+
+    public static class Jedi extends TraversonResult<Object> {
+
+        private Integer id;
+
+        private String name;
+
+        private String rank;
+
+        private List<String> masters;
+
+        public Jedi() {
+        }
+
+        public Jedi(final String name, final String rank, final List<String> masters) {
+            this.name = name;
+            this.rank = rank;
+            this.masters = masters;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+    }
+
+    public static class JediCollection extends TraversonResult<List<Jedi>> {
+
+        public List<Jedi> getJedi() {
+            return getEmbedded().get("jedi");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.Traverson;
+import com.smoope.utils.traverson.benchmark.Resources.Jedi;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+/**
+ * Traversals over several hops, either fetching every hop or resolving it from _embedded
+ *
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+
+    private BenchmarkServer server;
+
+    private Traverson traverson;
+
+    private Traverson embedded;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new BenchmarkServer()
+            .fixture("/api", "root.hal")
+            .fixture("/api/jedi", "item.hal")
+            .fixture("/api/jedi/1/saber", "item.hal")
+            .fixture("/embedded", "embedded.root.hal");
+        traverson = new Traverson.Builder(server.url("/api")).build();
+        embedded = new Traverson.Builder(server.url("/embedded")).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Benchmark
+    public Jedi multiHop() throws IOException {
+        return traverson.follow("jedi", "lightSaber").get(Jedi.class);
+    }
+
+    @Benchmark
+    public Jedi multiHopAsync() throws Exception {
+        return traverson.follow("jedi", "lightSaber").getAsync(Jedi.class).get();
+    }
+
+    @Benchmark
+    public Jedi embeddedHop() throws IOException {
+        return embedded.follow("jedi").get(Jedi.class);
+    }
+}
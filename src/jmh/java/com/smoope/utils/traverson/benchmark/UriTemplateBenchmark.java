@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.benchmark;
+
+import com.smoope.utils.traverson.utils.UriTemplate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parsing and expanding link templates
+ *
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class UriTemplateBenchmark {
+
+    private static final String TEMPLATE = "http://old-republic.com/jedi{?page,size,sort}";
+
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setUp() {
+        parameters = new HashMap<>();
+        parameters.put("page", 3);
+        parameters.put("size", 20);
+        parameters.put("sort", "name");
+    }
+
+    @Benchmark
+    public UriTemplate fromUri() {
+        return UriTemplate.fromUri(TEMPLATE);
+    }
+
+    @Benchmark
+    public String expand() {
+        return UriTemplate.fromUri(TEMPLATE).expand(parameters);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import java.util.zip.Deflater;
+
+import okio.DeflaterSink;
+import okio.GzipSink;
+import okio.Sink;
+
+/**
+ * Encodings compressing request bodies
+ *
+ * @since 1.5.0
+ */
+public enum ContentEncoding {
+
+    /**
+     * Gzip format, RFC 1952
+     */
+    GZIP("gzip") {
+        @Override
+        Sink compress(final Sink sink) {
+            return new GzipSink(sink);
+        }
+    },
+
+    /**
+     * Zlib format, RFC 1950, which HTTP calls deflate
+     */
+    DEFLATE("deflate") {
+        @Override
+        Sink compress(final Sink sink) {
+            return new DeflaterSink(sink, new Deflater());
+        }
+    };
+
+    private final String name;
+
+    ContentEncoding(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the value of the Content-Encoding header
+     *
+     * @return Header value
+     * @since 1.5.0
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Wraps the sink, closing the returned sink finishes the compressed stream and closes the wrapped one, so
+     * callers not owning the sink have to shield it
+     */
+    abstract Sink compress(Sink sink);
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publisher fetching batches of values only as far as its subscriber demands them
+ *
+ * Every subscription starts its own traversal. A batch is requested only while the values already fetched or
+ * in flight don't cover the outstanding demand, and never more than {@code prefetch} batches at a time, so a
+ * slow subscriber throttles the requests and at most the fetched batches are buffered.
+ *
+ * Cancelling stops requesting batches. Batches already requested aren't aborted, their requests complete in the
+ * background and read and close their responses, only their values are dropped.
+ *
+ * @since 1.5.0
+ */
+class DemandPublisher<T> implements Publisher<T> {
+
+    private final Supplier<Source<T>> sources;
+
+    private final int prefetch;
+
+    DemandPublisher(final Supplier<Source<T>> sources, final int prefetch) {
+        this.sources = sources;
+        this.prefetch = Math.max(prefetch, 1);
+    }
+
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+
+        new DemandSubscription(subscriber, sources.get()).start();
+    }
+
+    /**
+     * Ordered source of batches
+     *
+     * @since 1.5.0
+     */
+    @FunctionalInterface
+    interface Source<T> {
+
+        /**
+         * Starts fetching the batch following the ones already requested
+         *
+         * @return Future of the batch, completed with null once there are no more batches, or null if the batch
+         * can't be requested before an outstanding one completes
+         */
+        CompletableFuture<List<T>> next();
+    }
+
+    private class DemandSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final Source<T> source;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final Deque<CompletableFuture<List<T>>> batches = new ArrayDeque<>();
+
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private int remaining;
+
+        private boolean exhausted;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        DemandSubscription(final Subscriber<? super T> subscriber, final Source<T> source) {
+            this.subscriber = subscriber;
+            this.source = source;
+        }
+
+        void start() {
+            // requests made within onSubscribe are served once it returns
+            wip.set(1);
+            subscriber.onSubscribe(this);
+            loop();
+        }
+
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items, which is not positive");
+            } else {
+                long previous;
+                long next;
+                do {
+                    previous = demand.get();
+                    next = previous + n < 0 ? Long.MAX_VALUE : previous + n;
+                } while (!demand.compareAndSet(previous, next));
+            }
+
+            drain();
+        }
+
+        /**
+         * Stops requesting batches and drops the ones in flight without aborting their requests
+         */
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Emits the available values and requests further batches. Only one thread drains at a time, the others
+         * make it loop again.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                loop();
+            }
+        }
+
+        private void loop() {
+            int missed = 1;
+            do {
+                if (!cancelled && invalidRequest != null) {
+                    terminate();
+                    subscriber.onError(invalidRequest);
+                }
+
+                while (!cancelled && demand.get() > 0 && current.hasNext()) {
+                    remaining--;
+                    demand.decrementAndGet();
+                    subscriber.onNext(current.next());
+                }
+
+                if (!cancelled && !current.hasNext() && !batches.isEmpty() && batches.peek().isDone()) {
+                    CompletableFuture<List<T>> batch = batches.poll();
+                    List<T> values;
+                    try {
+                        values = batch.join();
+                    } catch (CompletionException e) {
+                        terminate();
+                        subscriber.onError(e.getCause() == null ? e : e.getCause());
+
+                        continue;
+                    }
+
+                    if (values == null) {
+                        exhausted = true;
+                        batches.forEach(pending -> pending.cancel(true));
+                        batches.clear();
+                    } else {
+                        current = values.iterator();
+                        remaining = values.size();
+                    }
+
+                    continue;
+                }
+
+                if (!cancelled && exhausted && !current.hasNext() && batches.isEmpty()) {
+                    terminate();
+                    subscriber.onComplete();
+                }
+
+                if (cancelled) {
+                    batches.forEach(pending -> pending.cancel(true));
+                    batches.clear();
+                    current = Collections.emptyIterator();
+                } else {
+                    CompletableFuture<List<T>> batch;
+                    while (!exhausted && batches.size() < prefetch && remaining + batches.size() < demand.get()
+                        && (batch = source.next()) != null) {
+                        batches.add(batch);
+                        batch.whenComplete((values, e) -> drain());
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate() {
+            cancelled = true;
+            exhausted = true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import com.google.gson.JsonElement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Lazy iterator over the embedded items of a paginated collection
+ *
+ * Pages are chained through their "next" links. Up to {@code readAhead} pages are requested ahead of the
+ * page being consumed, so the consumer doesn't wait on page boundaries.
+ *
+ * @since 1.5.0
+ */
+class PageIterator<T> implements Iterator<T> {
+
+    private final Function<String, CompletableFuture<Page>> loader;
+
+    private final Function<JsonElement, T> binder;
+
+    private final int readAhead;
+
+    private final Deque<CompletableFuture<Page>> pages;
+
+    private CompletableFuture<Page> last;
+
+    private Iterator<JsonElement> current;
+
+    private boolean done;
+
+    PageIterator(final CompletableFuture<Page> first, final Function<String, CompletableFuture<Page>> loader,
+                 final Function<JsonElement, T> binder, final int readAhead) {
+        this.loader = loader;
+        this.binder = binder;
+        this.readAhead = readAhead;
+        this.pages = new ArrayDeque<>(readAhead + 1);
+        // cancelling a dependent stage leaves the first page's own stages to read and close its response
+        this.last = first.thenApply(Function.identity());
+        this.pages.add(last);
+        this.current = Collections.emptyIterator();
+    }
+
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (pages.isEmpty() && !scheduleNext()) {
+                return false;
+            }
+
+            Page page = await(pages.poll());
+            if (page == null) {
+                done = true;
+
+                return false;
+            }
+
+            current = page.getItems().iterator();
+            while (pages.size() < readAhead && scheduleNext()) {
+                // keep requesting pages ahead of the consumer
+            }
+        }
+
+        return true;
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return binder.apply(current.next());
+    }
+
+    /**
+     * Stops requesting pages. Requests already sent aren't aborted, they complete in the background and their
+     * responses are read and closed, only the pages chained after them are never requested.
+     *
+     * @since 1.5.0
+     */
+    void cancel() {
+        done = true;
+        pages.forEach(page -> page.cancel(true));
+        pages.clear();
+    }
+
+    private boolean scheduleNext() {
+        if (done || last.isDone() && !last.isCompletedExceptionally() && last.join() == null) {
+            return false;
+        }
+
+        last = last.thenCompose(page -> page == null || page.getNext() == null
+            ? CompletableFuture.completedFuture(null)
+            : loader.apply(page.getNext())
+        );
+        pages.add(last);
+
+        return true;
+    }
+
+    private Page await(final CompletableFuture<Page> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            cancel();
+
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Embedded items of a single page and the uri of the following one
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class Page {
+
+        private final List<JsonElement> items;
+
+        private final String next;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+/**
+ * Listener of transferred bytes
+ *
+ * @since 1.5.0
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Called after each transferred segment
+     *
+     * @param bytes Number of bytes transferred so far, including the ones of a resumed transfer
+     * @param contentLength Total number of bytes or -1 if unknown
+     * @since 1.5.0
+     */
+    void onProgress(long bytes, long contentLength);
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * Request body which is streamed from its source while being written, so the payload is never held in memory.
+ * Bodies of unknown length are sent with chunked transfer encoding.
+ * <p>
+ * Bodies created from a file, a seekable channel or a stream supplier are replayable, they are read again from
+ * the start when the request has to be re-sent, e.g. after a 401. Bodies created from a stream, a channel or
+ * a chunk supplier can be written only once, requests carrying them are neither retried nor re-authenticated.
+ *
+ * @since 1.5.0
+ */
+public final class StreamingBody extends RequestBody {
+
+    private static final MediaType OCTET_STREAM = MediaType.parse("application/octet-stream");
+
+    private final MediaType contentType;
+
+    private final long contentLength;
+
+    private final Content content;
+
+    private final boolean replayable;
+
+    private final AtomicBoolean written;
+
+    private final ProgressListener progress;
+
+    private StreamingBody(final MediaType contentType, final long contentLength, final Content content,
+                          final boolean replayable, final AtomicBoolean written, final ProgressListener progress) {
+        this.contentType = contentType == null ? OCTET_STREAM : contentType;
+        this.contentLength = contentLength;
+        this.content = content;
+        this.replayable = replayable;
+        this.written = written;
+        this.progress = progress;
+    }
+
+    private StreamingBody(final MediaType contentType, final long contentLength, final Content content,
+                          final boolean replayable) {
+        this(contentType, contentLength, content, replayable, new AtomicBoolean(), null);
+    }
+
+    /**
+     * Creates a replayable body streamed from a file
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param file File
+     * @return Body
+     * @throws IOException If the size of the file cannot be read
+     * @since 1.5.0
+     */
+    public static StreamingBody create(final MediaType contentType, final Path file) throws IOException {
+        return new StreamingBody(contentType, Files.size(file), sink -> {
+            try (Source source = Okio.source(file)) {
+                sink.writeAll(source);
+            }
+        }, true);
+    }
+
+    /**
+     * Creates a replayable body streamed from the streams of the supplier, which is asked for a new stream
+     * every time the body is written. The streams are closed once written.
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param streams Supplier of streams
+     * @return Body
+     * @since 1.5.0
+     */
+    public static StreamingBody create(final MediaType contentType, final Supplier<? extends InputStream> streams) {
+        return new StreamingBody(contentType, -1, sink -> {
+            try (Source source = Okio.source(streams.get())) {
+                sink.writeAll(source);
+            }
+        }, true);
+    }
+
+    /**
+     * Creates a body streamed from a stream of unknown length, which is not closed
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param stream Stream
+     * @return Body which can be written only once
+     * @since 1.5.0
+     */
+    public static StreamingBody create(final MediaType contentType, final InputStream stream) {
+        return create(contentType, stream, -1);
+    }
+
+    /**
+     * Creates a body streamed from a stream, which is not closed
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param stream Stream
+     * @param contentLength Number of bytes the stream provides or -1 if unknown
+     * @return Body which can be written only once
+     * @since 1.5.0
+     */
+    public static StreamingBody create(final MediaType contentType, final InputStream stream,
+                                       final long contentLength) {
+        return new StreamingBody(contentType, contentLength, sink -> sink.writeAll(Okio.source(stream)), false);
+    }
+
+    /**
+     * Creates a body streamed from a channel, which is not closed. Seekable channels are streamed from their
+     * current position to their end and replayed by seeking back to that position.
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param channel Channel
+     * @return Body
+     * @throws IOException If the position of a seekable channel cannot be read
+     * @since 1.5.0
+     */
+    public static StreamingBody create(final MediaType contentType, final ReadableByteChannel channel)
+        throws IOException {
+        if (channel instanceof SeekableByteChannel) {
+            final SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            final long position = seekable.position();
+
+            return new StreamingBody(contentType, seekable.size() - position, sink -> {
+                seekable.position(position);
+                sink.writeAll(Okio.source(Channels.newInputStream(seekable)));
+            }, true);
+        }
+
+        return new StreamingBody(contentType, -1, sink -> sink.writeAll(Okio.source(Channels.newInputStream(channel))),
+            false);
+    }
+
+    /**
+     * Creates a body of chunks produced on the fly, each one is sent as soon as it is supplied.
+     * The supplier signals the end of the body by returning null.
+     *
+     * @param contentType Content type, defaults to application/octet-stream
+     * @param chunks Supplier of chunks
+     * @return Body which can be written only once
+     * @since 1.5.0
+     */
+    public static StreamingBody chunked(final MediaType contentType, final Supplier<byte[]> chunks) {
+        return new StreamingBody(contentType, -1, sink -> {
+            byte[] chunk;
+            while ((chunk = chunks.get()) != null) {
+                sink.write(chunk);
+                sink.flush();
+            }
+        }, false);
+    }
+
+    /**
+     * Returns a body reporting the written bytes to the listener
+     *
+     * @param body Body
+     * @param progress Progress listener
+     * @return Body
+     */
+    static StreamingBody withProgress(final RequestBody body, final ProgressListener progress) {
+        if (body instanceof StreamingBody) {
+            StreamingBody streaming = (StreamingBody) body;
+
+            return new StreamingBody(streaming.contentType, streaming.contentLength, streaming.content,
+                streaming.replayable, streaming.written, progress);
+        }
+
+        long contentLength;
+        try {
+            contentLength = body.contentLength();
+        } catch (IOException e) {
+            contentLength = -1;
+        }
+
+        return new StreamingBody(body.contentType(), contentLength, body::writeTo, true, new AtomicBoolean(), progress);
+    }
+
+    /**
+     * Returns a body compressing the given one while it is written. The length of the compressed body is unknown,
+     * so it is sent with chunked transfer encoding.
+     *
+     * @param body Body
+     * @param encoding Content encoding
+     * @return Body, replayable if the given one is
+     */
+    static StreamingBody compressed(final RequestBody body, final ContentEncoding encoding) {
+        return new StreamingBody(body.contentType(), -1, sink -> {
+            // closing the compressing sink writes the trailer, the request sink itself is owned by OkHttp
+            BufferedSink compressed = Okio.buffer(encoding.compress(new ForwardingSink(sink) {
+                @Override
+                public void close() throws IOException {
+                    sink.emit();
+                }
+            }));
+            body.writeTo(compressed);
+            compressed.close();
+        }, isReplayable(body));
+    }
+
+    /**
+     * Whether the body can be written again, which is always the case for bodies not created by this class
+     *
+     * @param body Body
+     * @return Whether the body can be re-sent
+     */
+    static boolean isReplayable(final RequestBody body) {
+        return !(body instanceof StreamingBody) || ((StreamingBody) body).isReplayable();
+    }
+
+    /**
+     * Whether the body can be written more than once
+     *
+     * @return Whether the body is replayable
+     * @since 1.5.0
+     */
+    public boolean isReplayable() {
+        return replayable;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(final BufferedSink sink) throws IOException {
+        if (!written.compareAndSet(false, true) && !replayable) {
+            throw new IOException("Streaming body has already been written");
+        }
+
+        if (progress == null) {
+            content.writeTo(sink);
+
+            return;
+        }
+
+        BufferedSink counting = Okio.buffer(new ForwardingSink(sink) {
+
+            private long bytes;
+
+            @Override
+            public void write(final Buffer source, final long byteCount) throws IOException {
+                super.write(source, byteCount);
+                bytes += byteCount;
+                progress.onProgress(bytes, contentLength);
+            }
+        });
+        content.writeTo(counting);
+        counting.emit();
+    }
+
+    @FunctionalInterface
+    private interface Content {
+
+        void writeTo(BufferedSink sink) throws IOException;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import com.smoope.utils.traverson.metrics.TraversonMetrics.HopSource;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Response;
+
+/**
+ * Record of a single traversal, listing every resolved rel and the final request
+ *
+ * @since 1.5.0
+ */
+public class TraversalTrace {
+
+    private final List<String> rels;
+
+    private final List<Hop> hops = new CopyOnWriteArrayList<>();
+
+    @Getter
+    private long duration;
+
+    @Getter
+    private boolean success;
+
+    TraversalTrace(final List<String> rels) {
+        this.rels = new ArrayList<>(rels);
+    }
+
+    /**
+     * Returns the followed rels
+     *
+     * @return Rels
+     * @since 1.5.0
+     */
+    public List<String> getRels() {
+        return Collections.unmodifiableList(rels);
+    }
+
+    /**
+     * Returns the hops in the order they were made. The final request is the last hop, its rel is null.
+     *
+     * @return Hops
+     * @since 1.5.0
+     */
+    public List<Hop> getHops() {
+        return Collections.unmodifiableList(hops);
+    }
+
+    Hop hop(final String url, final String rel, final HopSource source) {
+        Hop hop = new Hop(url, rel, source);
+        hops.add(hop);
+
+        return hop;
+    }
+
+    void finish(final long duration, final boolean success) {
+        this.duration = duration;
+        this.success = success;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+            .append("TraversalTrace ").append(rels)
+            .append(success ? " succeeded in " : " failed after ")
+            .append(TimeUnit.NANOSECONDS.toMillis(duration)).append(" ms");
+        hops.forEach(hop -> builder.append("\n  ").append(hop));
+
+        return builder.toString();
+    }
+
+    /**
+     * Single hop of a traversal. Times are in nanoseconds except the time to first byte, values which are
+     * unknown, e.g. the status of a resource served from the cache, are -1.
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    public static class Hop {
+
+        private final String url;
+
+        private final String rel;
+
+        @Setter(AccessLevel.PACKAGE)
+        private volatile HopSource source;
+
+        private volatile int status = -1;
+
+        private volatile long timeToFirstByte = -1;
+
+        private volatile long bytes = -1;
+
+        @Setter(AccessLevel.PACKAGE)
+        private volatile long decodeTime = -1;
+
+        @Setter(AccessLevel.PACKAGE)
+        private volatile long duration = -1;
+
+        private Hop(final String url, final String rel, final HopSource source) {
+            this.url = url;
+            this.rel = rel;
+            this.source = source;
+        }
+
+        void response(final Response response) {
+            this.status = response.code();
+            this.timeToFirstByte = response.receivedResponseAtMillis() - response.sentRequestAtMillis();
+            this.bytes = response.body() == null ? -1 : response.body().contentLength();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s [%s] status=%d ttfb=%dms decode=%dus bytes=%d duration=%dus",
+                rel == null ? "(final)" : rel,
+                url == null ? "(embedded)" : url,
+                source, status, timeToFirstByte,
+                decodeTime < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(decodeTime),
+                bytes,
+                duration < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(duration));
+        }
+    }
+}
@@ -23,29 +23,81 @@ import static com.smoope.utils.traverson.Traverson.RequestMethod.PUT;
 import static lombok.AccessLevel.PRIVATE;
 import static okhttp3.MultipartBody.FORM;
 
+import com.smoope.utils.traverson.cache.LinkCache;
+import com.smoope.utils.traverson.cache.ResourceCache;
+import com.smoope.utils.traverson.codec.CborCodec;
+import com.smoope.utils.traverson.codec.GsonCodec;
+import com.smoope.utils.traverson.codec.HalTypeAdapterFactory;
+import com.smoope.utils.traverson.codec.NegotiatingCodec;
+import com.smoope.utils.traverson.codec.TraversonCodec;
+import com.smoope.utils.traverson.metrics.MetricsEventListener;
+import com.smoope.utils.traverson.metrics.TraversonMetrics;
+import com.smoope.utils.traverson.metrics.TraversonMetrics.HopSource;
+import com.smoope.utils.traverson.resilience.Bulkhead;
+import com.smoope.utils.traverson.resilience.CircuitBreaker;
+import com.smoope.utils.traverson.retry.LatencyTracker;
+import com.smoope.utils.traverson.retry.RetryPolicy;
 import com.smoope.utils.traverson.security.TraversonAuthenticator;
+import com.smoope.utils.traverson.utils.HopResolver;
+import com.smoope.utils.traverson.utils.RequestCoalescer;
 import com.smoope.utils.traverson.utils.UriTemplate;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import org.reactivestreams.Publisher;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.io.OutputStream;
 import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import okhttp3.Cache;
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
 import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -53,7 +105,12 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import okhttp3.Route;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Sink;
 
 /**
  * Component for traversing hypermedia APIs
@@ -64,12 +121,16 @@ import okhttp3.Route;
 @Slf4j
 public class Traverson {
 
-    private static final MediaType CONTENT_TYPE_JSON = MediaType.parse("application/json; charset=utf-8");
-
     private static final String HEADER_CONTENT_TYPE = "Content-Type";
 
     private static final String HEADER_CONTENT_LENGHT = "Content-Length";
 
+    private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+
+    private static final long TRANSFER_SEGMENT = 8192;
+
+    private static final List<String> DEFAULT_KEY_HEADERS = Arrays.asList("Authorization", "Accept");
+
     private static final String METHOD_POST = "POST";
 
     private static final String METHOD_PUT = "PUT";
@@ -78,26 +139,191 @@ public class Traverson {
 
     private final OkHttpClient client;
 
-    private final Gson serializer;
+    private final TraversonCodec codec;
+
+    private final AtomicReference<Headers> defaultHeaders;
+
+    private final LinkCache linkCache;
+
+    private final HopResolver hopResolver;
+
+    private final RequestCoalescer<HopResource> coalescer;
+
+    private final List<String> keyHeaders;
+
+    private final ResourceCache<HopResource> resourceCache;
+
+    private final RetryPolicy retryPolicy;
+
+    private final LatencyTracker latencies;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead hostBulkhead;
+
+    private final Bulkhead relBulkhead;
 
-    private Map<String, String> defaultHeaders;
+    private final TraversonMetrics metrics;
+
+    private final double traceRate;
+
+    private final Consumer<TraversalTrace> traceConsumer;
+
+    private final ContentEncoding requestEncoding;
+
+    private final long compressionThreshold;
+
+    private volatile CompletableFuture<WarmUpReport> warmUp;
 
     /**
      * Constructor with parameters
      *
      * @param baseUri API's base uri
      * @param client HTTP client implementation
-     * @param serializer Serializer
+     * @param codec Codec of request and response bodies
      * @param defaultHeaders Default headers
+     * @param linkCache Cache of resolved rel paths, may be null
+     * @param coalescingHeaders Headers identifying coalescable GET requests, null to disable coalescing
+     * @param resourceCacheSize Maximum number of parsed resources kept in heap, 0 to disable the cache
+     * @param retryPolicy Policy of retrying failed requests, may be null
+     * @param circuitBreaker Per-host circuit breaker, may be null
+     * @param hostBulkhead Limit of concurrent requests per host, may be null
+     * @param relBulkhead Limit of concurrent traversals per rel path, may be null
+     * @param metrics Listener of traversal events, may be null
+     * @param traceRate Share of traversals which are traced
+     * @param traceConsumer Receiver of sampled traces, may be null
+     * @param requestEncoding Encoding compressing POST and PUT bodies, null to send them uncompressed
+     * @param compressionThreshold Minimum length of compressed bodies
      *
      * @since 1.0.0
      */
-    private Traverson(final String baseUri, final OkHttpClient client, final Gson serializer,
-                      final Map<String, String> defaultHeaders) {
+    private Traverson(final String baseUri, final OkHttpClient client, final TraversonCodec codec,
+                      final AtomicReference<Headers> defaultHeaders, final LinkCache linkCache,
+                      final List<String> coalescingHeaders, final int resourceCacheSize,
+                      final RetryPolicy retryPolicy, final CircuitBreaker circuitBreaker,
+                      final Bulkhead hostBulkhead, final Bulkhead relBulkhead, final TraversonMetrics metrics,
+                      final double traceRate, final Consumer<TraversalTrace> traceConsumer,
+                      final ContentEncoding requestEncoding, final long compressionThreshold) {
         this.baseUri = baseUri;
         this.client = client;
-        this.serializer = serializer;
+        this.codec = codec;
         this.defaultHeaders = defaultHeaders;
+        this.linkCache = linkCache;
+        this.hopResolver = new HopResolver();
+        this.coalescer = coalescingHeaders == null ? null : new RequestCoalescer<>();
+        this.keyHeaders = coalescingHeaders == null ? DEFAULT_KEY_HEADERS : coalescingHeaders;
+        this.resourceCache = resourceCacheSize > 0 ? new ResourceCache<>(resourceCacheSize) : null;
+        this.retryPolicy = retryPolicy;
+        this.latencies = retryPolicy != null && retryPolicy.isHedging() ? new LatencyTracker(256) : null;
+        this.circuitBreaker = circuitBreaker;
+        this.hostBulkhead = hostBulkhead;
+        this.relBulkhead = relBulkhead;
+        this.metrics = metrics;
+        this.traceRate = traceRate;
+        this.traceConsumer = traceConsumer;
+        this.requestEncoding = requestEncoding;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Returns the cache of resolved rel paths
+     *
+     * @return Link cache or null if disabled
+     * @since 1.5.0
+     */
+    public LinkCache getLinkCache() {
+        return linkCache;
+    }
+
+    /**
+     * Returns the coalescer of concurrent identical GET requests, exposing its counters
+     *
+     * @return Request coalescer or null if disabled
+     * @since 1.5.0
+     */
+    public RequestCoalescer<?> getRequestCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * Returns the in-heap cache of parsed resources, exposing its counters
+     *
+     * @return Resource cache or null if disabled
+     * @since 1.5.0
+     */
+    public ResourceCache<?> getResourceCache() {
+        return resourceCache;
+    }
+
+    /**
+     * Returns the per-host circuit breaker, exposing the states of the circuits
+     *
+     * @return Circuit breaker or null if disabled
+     * @since 1.5.0
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Returns the warm-up run when this object was built
+     *
+     * @return Future of the warm-up report or null if no warm-up was configured
+     * @since 1.5.0
+     */
+    public CompletableFuture<WarmUpReport> getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Primes the codec and the template parser, then fetches the root and traverses the rel paths
+     * concurrently, so connections are open and the decoding code is loaded before the first traversal.
+     * Failures are recorded in the report only.
+     *
+     * @param relPaths Rel paths to traverse
+     * @return Future of the report
+     * @since 1.5.0
+     */
+    private CompletableFuture<WarmUpReport> warmUp(final List<String[]> relPaths) {
+        final long start = System.nanoTime();
+        codec.prime();
+        UriTemplate.fromUri(baseUri);
+        final WarmUpReport report = new WarmUpReport(System.nanoTime() - start, relPaths);
+
+        final long rootStart = System.nanoTime();
+
+        return follow().getAsync()
+            .handle((response, e) -> {
+                report.root(close(response, rootStart), e);
+
+                return CompletableFuture.allOf(relPaths.stream()
+                    .map(rels -> {
+                        final long pathStart = System.nanoTime();
+
+                        return follow(rels).getAsync()
+                            .handle((value, failure) -> {
+                                report.path(rels, close(value, pathStart), failure);
+
+                                return null;
+                            });
+                    })
+                    .toArray(CompletableFuture[]::new));
+            })
+            .thenCompose(Function.identity())
+            .thenApply(ignored -> {
+                report.finish(System.nanoTime() - start);
+                log.info("{}", report);
+
+                return report;
+            });
+    }
+
+    private static long close(final Response response, final long start) {
+        if (response != null) {
+            response.close();
+        }
+
+        return System.nanoTime() - start;
     }
 
     /**
@@ -108,7 +334,7 @@ public class Traverson {
      * @since 1.0.0
      */
     public void addDefaultHeader(final String name, final String value) {
-        this.defaultHeaders.put(name, value);
+        this.defaultHeaders.updateAndGet(headers -> headers.newBuilder().set(name, value).build());
     }
 
     /**
@@ -118,9 +344,7 @@ public class Traverson {
      * @since 1.0.0
      */
     public void removeDefaultHeader(final String name) {
-        if (this.defaultHeaders.containsKey(name)) {
-            this.defaultHeaders.remove(name);
-        }
+        this.defaultHeaders.updateAndGet(headers -> headers.newBuilder().removeAll(name).build());
     }
 
     /**
@@ -145,6 +369,17 @@ public class Traverson {
         return new Traversing(baseUri).followUri(link);
     }
 
+    /**
+     * Follows several rel paths at once, fetching shared intermediate resources only once
+     *
+     * @param paths Rel paths to follow
+     * @return Multi traversing object
+     * @since 1.5.0
+     */
+    public Traversing.MultiTraversing followAll(String[]... paths) {
+        return new Traversing(baseUri).followAll(paths);
+    }
+
     /**
      * Returns a new Traversing with given uri as root
      *
@@ -170,6 +405,18 @@ public class Traverson {
 
         private boolean traverse = true;
 
+        private int readAhead = 1;
+
+        private Consumer<TraversalTrace> tracer;
+
+        private ProgressListener progress;
+
+        private ContentEncoding requestEncoding = Traverson.this.requestEncoding;
+
+        private long compressionThreshold = Traverson.this.compressionThreshold;
+
+        private volatile MergedHeaders mergedHeaders;
+
         public Traversing(String rootUri) {
             this.rootUri = rootUri;
             this.rels = new ArrayList<>();
@@ -177,15 +424,34 @@ public class Traverson {
             this.headers = new HashMap<>();
         }
 
+        /**
+         * Merges the per-traversing headers into the current default headers snapshot, reusing the last merge
+         * as long as neither side changed
+         *
+         * @since 1.5.0
+         */
+        private Headers requestHeaders() {
+            Headers defaults = defaultHeaders.get();
+            if (headers.isEmpty()) {
+                return defaults;
+            }
+
+            MergedHeaders merged = this.mergedHeaders;
+            if (merged == null || merged.getDefaults() != defaults) {
+                Headers.Builder builder = defaults.newBuilder();
+                headers.forEach(builder::set);
+                merged = new MergedHeaders(defaults, builder.build());
+                this.mergedHeaders = merged;
+            }
+
+            return merged.getHeaders();
+        }
+
         private Request prepareRequest(final String url, final RequestBody object,
                                        final RequestMethod method) {
-            HashMap<String, String> allHeaders = new HashMap<>();
-            allHeaders.putAll(defaultHeaders);
-            allHeaders.putAll(headers);
-
             Request.Builder request = new Request.Builder()
                 .url(url)
-                .headers(Headers.of(allHeaders));
+                .headers(requestHeaders());
 
             switch (method) {
                 case GET:
@@ -205,8 +471,60 @@ public class Traverson {
             return prepareRequest(url, null, method);
         }
 
+        private Request finalRequest(final String url, final RequestBody object, final RequestMethod method,
+                                     final TraversalContext context) {
+            RequestBody body = method == POST || method == PUT ? compress(object) : object;
+            Request request = prepareRequest(context.request(url), body, method);
+            if (context.getFinalHeaders() == null && body == object) {
+                return request;
+            }
+
+            Request.Builder builder = request.newBuilder();
+            if (body != object) {
+                builder.header(HEADER_CONTENT_ENCODING, requestEncoding.getName());
+            }
+            if (context.getFinalHeaders() != null) {
+                context.getFinalHeaders().names().forEach(name -> builder.header(name, context.getFinalHeaders().get(name)));
+            }
+
+            return builder.build();
+        }
+
+        /**
+         * Compresses the body if an encoding is set and the body isn't known to be shorter than the threshold
+         *
+         * @since 1.5.0
+         */
+        private RequestBody compress(final RequestBody object) {
+            if (object == null || requestEncoding == null) {
+                return object;
+            }
+
+            long length;
+            try {
+                length = object.contentLength();
+            } catch (IOException e) {
+                length = -1;
+            }
+
+            return length >= 0 && length < compressionThreshold ? object : StreamingBody.compressed(object, requestEncoding);
+        }
+
         private <T> T prepareResponse(final CallResult result, Type returnType) throws IOException {
-            return serializer.fromJson(result.isResponse() ? result.getResponse().body().string() : result.getEmbedded(), returnType);
+            long start = metrics == null ? 0 : System.nanoTime();
+            T value;
+            if (result.isResponse()) {
+                try (ResponseBody body = result.getResponse().body()) {
+                    value = codec.decode(body, returnType);
+                }
+            } else {
+                value = codec.decode(result.getEmbedded(), returnType);
+            }
+            if (metrics != null) {
+                metrics.decode(System.nanoTime() - start);
+            }
+
+            return value;
         }
 
         private Response handleErrors(final Response response) throws TraversonException {
@@ -214,6 +532,7 @@ public class Traverson {
                 case 200:
                 case 201:
                 case 204:
+                case 206:
                 case 307:
                     return response;
                 default: {
@@ -224,220 +543,1583 @@ public class Traverson {
             }
         }
 
-        private CallResult call(final RequestMethod method, final RequestBody object) throws TraversonException, IOException {
-            TraversingResult traversed = traverse
-                ? traverseToFinalUrl(method == GET)
-                : TraversingResult.url(UriTemplate.fromUri(rels.get(0)).expand(templateParameters).toString());
-
-            if (traversed.isUrl()) {
-                return CallResult.response(
-                    handleErrors(
-                        client.newCall(
-                            prepareRequest(
-                                traversed.getUrl(),
-                                object,
-                                method)
-                        ).execute()
-                    )
-                );
-            } else {
-                return CallResult.embedded(serializer.toJson(traversed.getEmbedded()));
-            }
+        /**
+         * Executes the request, retrying it according to the retry policy
+         *
+         * @param request Request
+         * @param async Whether to enqueue the call instead of executing it
+         * @return Future which is already completed for synchronous calls
+         * @since 1.5.0
+         */
+        private CompletableFuture<Response> execute(final Request request, final boolean async) {
+            return retryPolicy == null ? send(request, async) : execute(request, async, 1, false);
         }
 
-        private CallResult call(final RequestMethod method) throws TraversonException, IOException {
-            return call(method, RequestBody.create(null, new byte[0]));
+        /**
+         * Executes the GET request of an intermediate resource, retrying it according to the retry policy and
+         * hedging it if enabled. Only asynchronous hops are hedged, synchronous ones just feed the response times.
+         *
+         * @param request Request
+         * @param async Whether to enqueue the call instead of executing it
+         * @return Future which is already completed for synchronous calls
+         * @since 1.5.0
+         */
+        private CompletableFuture<Response> executeHop(final Request request, final boolean async) {
+            return retryPolicy == null ? send(request, async) : execute(request, async, 1, latencies != null);
         }
 
-        private TraversingResult traverseToFinalUrl(final boolean isGetRequest) throws TraversonException, IOException {
-            return getAndFindLinkWithRel(TraversingResult.url(rootUri), rels.iterator(), isGetRequest);
-        }
+        private CompletableFuture<Response> execute(final Request request, final boolean async, final int attempt,
+                                                    final boolean hedged) {
+            CompletableFuture<Response> sent = !hedged
+                ? send(request, async)
+                : async ? hedge(request) : timed(request, false);
+
+            return sent.handle((response, e) -> {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause != null && !(cause instanceof IOException) || !StreamingBody.isReplayable(request.body())
+                    || !retryPolicy.isRetryable(request, response, attempt)) {
+                    return cause == null ? CompletableFuture.completedFuture(response) : Traverson.<Response>failed(cause);
+                }
 
-        private TraversingResult getAndFindLinkWithRel(TraversingResult result, Iterator<String> rels, boolean isGetRequest)
-                throws TraversonException, IOException {
-            log.debug("Traversing: {}", result);
+                long delay = retryPolicy.getDelay(response, attempt);
+                if (response != null) {
+                    response.close();
+                }
+                log.debug("Retrying {} {} in {} ms", request.method(), request.url(), delay);
+
+                if (async) {
+                    CompletableFuture<Response> retried = new CompletableFuture<>();
+                    Scheduler.INSTANCE.schedule(() -> execute(request, true, attempt + 1, hedged).whenComplete((value, failure) -> {
+                        if (failure == null) {
+                            retried.complete(value);
+                        } else {
+                            retried.completeExceptionally(failure);
+                        }
+                    }), delay, TimeUnit.MILLISECONDS);
 
-            if (!rels.hasNext()) {
-                return result;
-            }
-
-            TraversonResult<Object> response = result.isUrl()
-                ? prepareResponse(
-                    CallResult.response(
-                        handleErrors(
-                            client.newCall(
-                                prepareRequest(result.getUrl(), GET)
-                            ).execute()
-                        )
-                    ),
-                    TraversonResult.class
-                )
-                : serializer.fromJson(serializer.toJson(result.getEmbedded()), TraversonResult.class);
+                    return retried;
+                }
 
-            String next = rels.next();
-            if (response.getEmbedded().containsKey(next)) {
-                if (rels.hasNext()) {
-                    return getAndFindLinkWithRel(TraversingResult.embedded(response.getEmbedded().get(next)), rels, isGetRequest);
-                } else if (isGetRequest) {
-                    return TraversingResult.embedded(response.getEmbedded().get(next));
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+
+                    return Traverson.<Response>failed(cause == null ? new IOException("Interrupted while retrying") : cause);
+                }
+
+                return execute(request, false, attempt + 1, hedged);
+            }).thenCompose(Function.identity());
+        }
+
+        /**
+         * Enqueues the GET request and, if no response arrived within the 95th percentile of the recent response
+         * times, a duplicate one. The first response wins, the other call is cancelled down to its OkHttp call and
+         * a response arriving nevertheless is closed.
+         *
+         * @param request Request
+         * @return Future of the first response
+         * @since 1.5.0
+         */
+        private CompletableFuture<Response> hedge(final Request request) {
+            final long delay = latencies.getPercentile(95);
+            if (delay < 0) {
+                return timed(request, true);
+            }
+
+            final CompletableFuture<Response> result = new CompletableFuture<>();
+            final List<CompletableFuture<Response>> calls = Collections.synchronizedList(new ArrayList<>(2));
+            final AtomicInteger pending = new AtomicInteger(2);
+            final BiConsumer<Response, Throwable> settle = (response, e) -> {
+                if (e == null) {
+                    if (result.complete(response)) {
+                        calls.forEach(call -> call.cancel(true));
+                    } else {
+                        response.close();
+                    }
+                } else if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                }
+            };
+            final Runnable launch = () -> {
+                CompletableFuture<Response> call = timed(request, true);
+                calls.add(call);
+                call.whenComplete(settle);
+            };
+
+            launch.run();
+            final ScheduledFuture<?> hedged = Scheduler.INSTANCE.schedule(() -> {
+                if (result.isDone()) {
+                    pending.decrementAndGet();
                 } else {
-                    return getAndFindLinkWithRel(TraversingResult.embedded(response.getEmbedded().get(next)), Arrays.asList("self").iterator(), false);
+                    log.debug("Hedging {} after {} ms", request.url(), delay);
+                    launch.run();
                 }
+            }, delay, TimeUnit.MILLISECONDS);
+            result.whenComplete((response, e) -> hedged.cancel(false));
+            calls.get(0).whenComplete((response, e) -> {
+                if (e != null && hedged.cancel(false) && pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                }
+            });
+
+            return result;
+        }
+
+        private CompletableFuture<Response> timed(final Request request, final boolean async) {
+            final long start = System.nanoTime();
+            final CompletableFuture<Response> sent = send(request, async);
+
+            return cancelling(sent, sent.whenComplete((response, e) -> {
+                if (e == null) {
+                    latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            }));
+        }
+
+        /**
+         * Sends the request unless the host's bulkhead is full or its circuit is open. Server errors and
+         * connection failures count as failures of the circuit. Permits are released once the response headers
+         * arrived, so the bulkhead limits requests waiting for a response, not the reading of response bodies.
+         *
+         * @param request Request
+         * @param async Whether to enqueue the call instead of executing it
+         * @return Future which is already completed for synchronous calls
+         * @since 1.5.0
+         */
+        private CompletableFuture<Response> send(final Request request, final boolean async) {
+            if (circuitBreaker == null && hostBulkhead == null) {
+                return transport(request, async);
             }
 
-            TraversonLink link = response.getLinkForRel(next);
-            if (link == null) {
-                throw new TraversonException(
-                    404,
-                    String.format("Couldn't find '%s' in %s", next, response),
-                    ""
-                );
+            final String host = request.url().host() + ":" + request.url().port();
+            if (hostBulkhead != null && !hostBulkhead.tryAcquire(host)) {
+                return failed(new BulkheadFullException(request.url().toString()));
+            }
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire(host)) {
+                if (hostBulkhead != null) {
+                    hostBulkhead.release(host);
+                }
+
+                return failed(new CircuitOpenException(request.url().toString()));
             }
 
-            UriTemplate template = UriTemplate.fromUri(link.getHref());
-            return getAndFindLinkWithRel(TraversingResult.url(template.hasParameters() ? template.expand(templateParameters).toString() : template.toString()), rels, isGetRequest);
+            final CompletableFuture<Response> transported = transport(request, async);
+
+            return cancelling(transported, transported.whenComplete((response, e) -> {
+                if (hostBulkhead != null) {
+                    hostBulkhead.release(host);
+                }
+                if (circuitBreaker == null) {
+                    return;
+                }
+
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof IOException || (response != null && response.code() >= 500)) {
+                    circuitBreaker.onFailure(host);
+                } else if (response != null) {
+                    circuitBreaker.onSuccess(host);
+                } else {
+                    circuitBreaker.release(host);
+                }
+            }));
         }
 
-        private Response handle201LocationRedirect(Response response) throws IOException {
-            if (follow201Location && response.code() == 201 && response.header("Location") != null) {
-                return client.newCall(prepareRequest(response.header("Location"), GET)).execute();
-            } else {
-                return response;
+        /**
+         * Sends the request, either blocking the calling thread or through {@link Call#enqueue(Callback)}
+         *
+         * @param request Request
+         * @param async Whether to enqueue the call instead of executing it
+         * @return Future which is already completed for synchronous calls
+         * @since 1.5.0
+         */
+        private CompletableFuture<Response> transport(final Request request, final boolean async) {
+            final Call call = client.newCall(request);
+
+            if (!async) {
+                try {
+                    return CompletableFuture.completedFuture(call.execute());
+                } catch (IOException e) {
+                    return failed(UncheckedCallException.unwrap(e));
+                }
             }
+
+            final CompletableFuture<Response> future = new CompletableFuture<>();
+            call.enqueue(new Callback() {
+
+                public void onFailure(Call call, IOException e) {
+                    future.completeExceptionally(UncheckedCallException.unwrap(e));
+                }
+
+                public void onResponse(Call call, Response response) {
+                    // the future may have been cancelled meanwhile, e.g. by a hedged call which won
+                    if (!future.complete(response)) {
+                        response.close();
+                    }
+                }
+            });
+            future.whenComplete((response, e) -> {
+                if (future.isCancelled()) {
+                    call.cancel();
+                }
+            });
+
+            return future;
         }
 
-        public Traversing follow(String... rels) {
-            for (String rel : rels) {
-                this.rels.add(rel);
+        private CompletableFuture<CallResult> call(final RequestMethod method, final RequestBody object, final boolean async) {
+            return call(method, object, async, null);
+        }
+
+        /**
+         * Traverses and sends the final request
+         *
+         * @param finalHeaders Headers only added to the final request, e.g. Range, may be null
+         * @since 1.5.0
+         */
+        private CompletableFuture<CallResult> call(final RequestMethod method, final RequestBody object, final boolean async,
+                                                   final Headers finalHeaders) {
+            // urls followed directly aren't rel paths, keying on them would track every url ever followed
+            if (relBulkhead == null || !traverse) {
+                return measure(method, object, async, finalHeaders);
             }
-            this.traverse = true;
 
-            return this;
-        }
+            final String path = rootUri + " " + rels;
+            if (!relBulkhead.tryAcquire(path)) {
+                return failed(new BulkheadFullException(path));
+            }
 
-        public Traversing followUri(String link) {
-            this.rels.add(link);
-            this.traverse = false;
+            try {
+                return measure(method, object, async, finalHeaders).whenComplete((result, e) -> relBulkhead.release(path));
+            } catch (RuntimeException e) {
+                relBulkhead.release(path);
 
-            return this;
+                throw e;
+            }
         }
 
-        public Traversing withHeaders(final Map<String, String> headers) {
-            this.headers.putAll(headers);
+        private CompletableFuture<CallResult> measure(final RequestMethod method, final RequestBody object, final boolean async,
+                                                      final Headers finalHeaders) {
+            final Consumer<TraversalTrace> tracer = this.tracer != null ? this.tracer : sampleTrace();
+            final TraversalContext context = new TraversalContext(tracer == null ? null : new TraversalTrace(rels), finalHeaders);
+            if (metrics == null && tracer == null) {
+                return dispatch(method, object, async, context);
+            }
 
-            return this;
+            final long start = System.nanoTime();
+            try {
+                return dispatch(method, object, async, context).whenComplete((result, e) ->
+                    completed(context, tracer, System.nanoTime() - start, e == null)
+                );
+            } catch (RuntimeException e) {
+                completed(context, tracer, System.nanoTime() - start, false);
+
+                throw e;
+            }
         }
 
-        public Traversing withHeader(final String name, final String value) {
-            this.headers.put(name, value);
+        private Consumer<TraversalTrace> sampleTrace() {
+            return traceConsumer != null && ThreadLocalRandom.current().nextDouble() < traceRate ? traceConsumer : null;
+        }
 
-            return this;
+        private void completed(final TraversalContext context, final Consumer<TraversalTrace> tracer,
+                               final long nanos, final boolean success) {
+            if (metrics != null) {
+                metrics.traversal(context.getHops(), nanos, success);
+            }
+            if (tracer != null) {
+                context.getTrace().finish(nanos, success);
+                try {
+                    tracer.accept(context.getTrace());
+                } catch (RuntimeException e) {
+                    log.warn("Trace consumer failed", e);
+                }
+            }
         }
 
-        public Traversing withTemplateParameter(final String name, final String value) {
-            this.templateParameters.put(name, value);
+        private CompletableFuture<CallResult> dispatch(final RequestMethod method, final RequestBody object, final boolean async,
+                                                       final TraversalContext context) {
+            if (!traverse) {
+                return execute(finalRequest(UriTemplate.fromUri(rels.get(0)).expand(templateParameters), object, method, context), async)
+                    .thenApply(response -> CallResult.response(handleErrors(response)));
+            }
 
-            return this;
-        }
+            // a one-shot body can't be sent again if the cached target turns out to be gone
+            if (linkCache == null || rels.isEmpty() || !StreamingBody.isReplayable(object)) {
+                return traverseAndCall(method, object, async, context);
+            }
 
-        public Traversing withTemplateParameters(Map<String, Object> parameters) {
-            this.templateParameters.putAll(parameters);
+            final boolean isGetRequest = method == GET;
+            LinkCache.Entry cached = linkCache.get(rootUri, rels, isGetRequest, requestHeaders(), templateParameters);
+            if (metrics != null) {
+                metrics.linkCache(cached != null);
+            }
+            if (cached == null) {
+                return traverseAndCall(method, object, async, context);
+            }
 
-            return this;
+            return execute(finalRequest(expand(cached.getTemplate()), object, method, context), async)
+                .thenCompose(response -> {
+                    context.response(response);
+                    if (isGone(response)) {
+                        response.close();
+                        linkCache.invalidate(rootUri, rels, isGetRequest, requestHeaders());
+
+                        return traverseAndCall(method, object, async, context);
+                    }
+
+                    return CompletableFuture.completedFuture(CallResult.response(handleErrors(response)));
+                });
         }
 
-        public Traversing follow201Location(final boolean follow201Location) {
-            this.follow201Location = follow201Location;
+        private CompletableFuture<CallResult> traverseAndCall(final RequestMethod method, final RequestBody object, final boolean async,
+                                                              final TraversalContext context) {
+            final boolean isGetRequest = method == GET;
+
+            return traverseToFinalUrl(isGetRequest, async, context).thenCompose(result -> result.isUrl()
+                ? execute(finalRequest(result.getUrl(), object, method, context), async)
+                    .thenApply(response -> {
+                        context.response(response);
+                        if (linkCache != null && context.getTemplate() != null && response.isSuccessful()) {
+                            linkCache.put(rootUri, rels, isGetRequest, requestHeaders(), context.getTemplate(),
+                                context.getBindings(), context.getMaxAge());
+                        }
 
-            return this;
+                        return CallResult.response(handleErrors(response));
+                    })
+                : CompletableFuture.completedFuture(CallResult.embedded(result.getEmbedded()))
+            );
         }
 
-        public RequestBody json(final Object body) {
-            return RequestBody.create(CONTENT_TYPE_JSON, serializer.toJson(body));
+        private boolean isGone(final Response response) {
+            return response.code() == 404 || response.code() == 410;
         }
 
-        public Response get() throws TraversonException, IOException {
-            return call(GET).getResponse();
+        private String expand(final String href) {
+            UriTemplate template = UriTemplate.fromUri(href);
+
+            return template.hasParameters() ? template.expand(templateParameters) : template.toString();
         }
 
-        public <T> T get(Class<T> returnType) throws TraversonException, IOException {
-            return prepareResponse(
-                call(GET),
-                returnType
-            );
+        private CompletableFuture<CallResult> call(final RequestMethod method, final boolean async) {
+            return call(method, RequestBody.create(null, new byte[0]), async);
         }
 
-        public <T> T get(Type type) throws TraversonException, IOException {
-            return prepareResponse(
-                call(GET),
-                type
-            );
+        private CallResult call(final RequestMethod method, final RequestBody object) throws TraversonException, IOException {
+            return await(call(method, object, false));
         }
 
-        public Response post() throws TraversonException, IOException {
-            return call(POST).getResponse();
+        private CallResult call(final RequestMethod method) throws TraversonException, IOException {
+            return await(call(method, false));
         }
 
-        public Response post(Object body) throws TraversonException, IOException {
-            return call(POST, json(body)).getResponse();
+        private CompletableFuture<TraversingResult> traverseToFinalUrl(final boolean isGetRequest, final boolean async,
+                                                                       final TraversalContext context) {
+            return getAndFindLinkWithRel(TraversingResult.url(rootUri), rels.iterator(), isGetRequest, async, context);
         }
 
-        public <T, R> R post(T body, Class<R> returnType) throws TraversonException, IOException {
-            return (R) prepareResponse(
-                CallResult.response(handle201LocationRedirect(call(POST, json(body)).getResponse())),
+        private CompletableFuture<TraversingResult> getAndFindLinkWithRel(TraversingResult result, Iterator<String> rels,
+                                                                          boolean isGetRequest, boolean async,
+                                                                          TraversalContext context) {
+            if (!rels.hasNext()) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            String next = rels.next();
+            log.debug("Traversing '{}' in {}", next, result.isUrl() ? result.getUrl() : "embedded resource");
+
+            boolean timed = metrics != null || context.isTraced();
+            long start = timed ? System.nanoTime() : 0;
+            context.next(next, result.getUrl(), result.isUrl() ? HopSource.NETWORK : HopSource.EMBEDDED);
+            CompletableFuture<TraversonResult<JsonElement>> response = result.isUrl()
+                ? fetchHop(result.getUrl(), next, async, context)
+                : CompletableFuture.completedFuture(hopResolver.resolve(result.getEmbedded(), next));
+            if (timed) {
+                final TraversalTrace.Hop hop = context.getCurrent();
+                response = response.whenComplete((resolved, e) -> {
+                    long nanos = System.nanoTime() - start;
+                    if (hop != null) {
+                        hop.setDuration(nanos);
+                    }
+                    if (metrics != null && e == null) {
+                        metrics.hop(next, context.getSource(), nanos);
+                    }
+                });
+            }
+
+            return response.thenCompose(r -> findLinkWithRel(r, next, rels, isGetRequest, async, context));
+        }
+
+        /**
+         * Fetches an intermediate resource and resolves the rel within it. Without coalescing and caching only the
+         * rel is read from the response, otherwise the whole resource is parsed once and shared.
+         *
+         * @since 1.5.0
+         */
+        private CompletableFuture<TraversonResult<JsonElement>> fetchHop(final String url, final String rel,
+                                                                         final boolean async,
+                                                                         final TraversalContext context) {
+            if (coalescer == null && resourceCache == null) {
+                return executeHop(prepareRequest(url, GET), async)
+                    .thenApply(unchecked(response -> {
+                        context.hop(response.headers());
+                        context.response(response);
+
+                        long start = context.isTraced() ? System.nanoTime() : 0;
+                        TraversonResult<JsonElement> resolved = resolve(handleErrors(response), rel);
+                        context.decoded(start);
+
+                        return resolved;
+                    }));
+            }
+
+            return fetchResource(url, async, context).thenApply(resource -> {
+                context.hop(resource.getHeaders());
+
+                return hopResolver.resolve(resource.getTree(), rel);
+            });
+        }
+
+        private CompletableFuture<HopResource> fetchResource(final String url, final boolean async,
+                                                             final TraversalContext context) {
+            final Request request = prepareRequest(url, GET);
+            final String key = resourceKey(request);
+
+            final ResourceCache.Entry<HopResource> cached = resourceCache == null ? null : resourceCache.get(key);
+            if (cached != null && cached.isFresh()) {
+                context.source(HopSource.CACHE);
+
+                return CompletableFuture.completedFuture(cached.getValue());
+            }
+
+            Supplier<CompletableFuture<HopResource>> fetch = () -> {
+                context.source(HopSource.NETWORK);
+
+                return executeHop(conditional(request, cached), async)
+                    .thenApply(unchecked(response -> {
+                        context.response(response);
+                        if (cached != null && response.code() == 304) {
+                            response.close();
+                            context.source(HopSource.REVALIDATED);
+
+                            return resourceCache.revalidated(key, cached, response.headers());
+                        }
+
+                        long start = context.isTraced() ? System.nanoTime() : 0;
+                        HopResource resource = new HopResource(readTree(handleErrors(response)), response.headers());
+                        context.decoded(start);
+                        if (resourceCache != null) {
+                            resourceCache.put(key, resource, response.headers());
+                        }
+
+                        return resource;
+                    }));
+            };
+
+            if (coalescer == null) {
+                return fetch.get();
+            }
+
+            context.source(HopSource.COALESCED);
+
+            return coalescer.execute(key, fetch);
+        }
+
+        private String resourceKey(final Request request) {
+            StringBuilder key = new StringBuilder(request.url().toString());
+            keyHeaders.forEach(name -> key.append('\n').append(request.header(name)));
+
+            return key.toString();
+        }
+
+        private Request conditional(final Request request, final ResourceCache.Entry<HopResource> cached) {
+            if (cached == null || !cached.isRevalidatable()) {
+                return request;
+            }
+
+            Request.Builder conditional = request.newBuilder();
+            if (cached.getEtag() != null) {
+                conditional.header("If-None-Match", cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                conditional.header("If-Modified-Since", cached.getLastModified());
+            }
+
+            return conditional.build();
+        }
+
+        private JsonElement readTree(final Response response) throws IOException {
+            long start = metrics == null ? 0 : System.nanoTime();
+            try (ResponseBody body = response.body()) {
+                return codec.readTree(body);
+            } finally {
+                if (metrics != null) {
+                    metrics.decode(System.nanoTime() - start);
+                }
+            }
+        }
+
+        private TraversonResult<JsonElement> resolve(final Response response, final String rel) throws IOException {
+            long start = metrics == null ? 0 : System.nanoTime();
+            try (ResponseBody body = response.body()) {
+                return codec.resolve(body, rel);
+            } finally {
+                if (metrics != null) {
+                    metrics.decode(System.nanoTime() - start);
+                }
+            }
+        }
+
+        private CompletableFuture<TraversingResult> findLinkWithRel(TraversonResult<JsonElement> response, String next,
+                                                                    Iterator<String> rels, boolean isGetRequest, boolean async,
+                                                                    TraversalContext context) {
+            if (response.getEmbedded().containsKey(next)) {
+                if (rels.hasNext()) {
+                    return getAndFindLinkWithRel(TraversingResult.embedded(response.getEmbedded().get(next)), rels, isGetRequest, async, context);
+                } else if (isGetRequest) {
+                    return CompletableFuture.completedFuture(TraversingResult.embedded(response.getEmbedded().get(next)));
+                } else {
+                    return getAndFindLinkWithRel(TraversingResult.embedded(response.getEmbedded().get(next)), Arrays.asList("self").iterator(), false, async, context);
+                }
+            }
+
+            TraversonLink link = response.getLinkForRel(next);
+            if (link == null) {
+                throw new TraversonException(
+                    404,
+                    String.format("Couldn't find '%s' in %s", next, response),
+                    ""
+                );
+            }
+
+            UriTemplate template = UriTemplate.fromUri(link.getHref());
+            context.link(link.getHref(), template.getParameterNames(), rels.hasNext(), templateParameters);
+
+            return getAndFindLinkWithRel(TraversingResult.url(expand(link.getHref())), rels, isGetRequest, async, context);
+        }
+
+        private CompletableFuture<Response> handle201LocationRedirect(final Response response, final boolean async) {
+            if (follow201Location && response.code() == 201 && response.header("Location") != null) {
+                return execute(prepareRequest(response.header("Location"), GET), async);
+            } else {
+                return CompletableFuture.completedFuture(response);
+            }
+        }
+
+        private Response handle201LocationRedirect(Response response) throws IOException {
+            return await(handle201LocationRedirect(response, false));
+        }
+
+        public Traversing follow(String... rels) {
+            for (String rel : rels) {
+                this.rels.add(rel);
+            }
+            this.traverse = true;
+
+            return this;
+        }
+
+        public Traversing followUri(String link) {
+            this.rels.add(link);
+            this.traverse = false;
+
+            return this;
+        }
+
+        public Traversing withHeaders(final Map<String, String> headers) {
+            this.headers.putAll(headers);
+            this.mergedHeaders = null;
+
+            return this;
+        }
+
+        public Traversing withHeader(final String name, final String value) {
+            this.headers.put(name, value);
+            this.mergedHeaders = null;
+
+            return this;
+        }
+
+        public Traversing withTemplateParameter(final String name, final String value) {
+            this.templateParameters.put(name, value);
+
+            return this;
+        }
+
+        public Traversing withTemplateParameters(Map<String, Object> parameters) {
+            this.templateParameters.putAll(parameters);
+
+            return this;
+        }
+
+        public Traversing follow201Location(final boolean follow201Location) {
+            this.follow201Location = follow201Location;
+
+            return this;
+        }
+
+        /**
+         * Traces every traversal of this object, regardless of the sampling configured on the builder
+         *
+         * @param tracer Receives the trace when a traversal completed
+         * @return Traversing object
+         * @since 1.5.0
+         */
+        public Traversing trace(final Consumer<TraversalTrace> tracer) {
+            this.tracer = tracer;
+
+            return this;
+        }
+
+        /**
+         * Sets the listener of transferred bytes of downloads and of uploads of request bodies
+         *
+         * @param progress Progress listener
+         * @return Traversing object
+         * @since 1.5.0
+         */
+        public Traversing progress(final ProgressListener progress) {
+            this.progress = progress;
+
+            return this;
+        }
+
+        /**
+         * Sets how many pages are requested ahead of the one being consumed by {@link #iterate(String, Type)}
+         *
+         * @param pages Number of pages, defaults to 1
+         * @return Traversing object
+         * @since 1.5.0
+         */
+        public Traversing readAhead(final int pages) {
+            this.readAhead = pages;
+
+            return this;
+        }
+
+        /**
+         * Compresses POST and PUT bodies of this traversal, overriding {@link Builder#requestCompression(ContentEncoding, long)}.
+         * Bodies of unknown length are always compressed.
+         *
+         * @param encoding Content encoding, null to send the bodies uncompressed
+         * @param threshold Minimum length in bytes of compressed bodies
+         * @return Traversing object
+         * @since 1.5.0
+         */
+        public Traversing requestCompression(final ContentEncoding encoding, final long threshold) {
+            this.requestEncoding = encoding;
+            this.compressionThreshold = threshold;
+
+            return this;
+        }
+
+        public RequestBody json(final Object body) {
+            return codec.encode(body);
+        }
+
+        public Response get() throws TraversonException, IOException {
+            return call(GET).getResponse();
+        }
+
+        /**
+         * Streams the target resource into a file, replacing its content
+         *
+         * @param target File
+         * @return Number of written bytes
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public long getTo(final Path target) throws TraversonException, IOException {
+            return getTo(target, false);
+        }
+
+        /**
+         * Streams the target resource into a file. When resuming a partially downloaded file only the missing bytes
+         * are requested with a Range header; if the server ignores it the file is downloaded from scratch, if it
+         * answers 416 the file is considered complete.
+         *
+         * @param target File
+         * @param resume Whether to continue a partial download
+         * @return Number of written bytes
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public long getTo(final Path target, final boolean resume) throws TraversonException, IOException {
+            long offset = resume && Files.exists(target) ? Files.size(target) : 0;
+
+            CallResult result;
+            try {
+                result = await(call(GET, null, false, offset > 0 ? Headers.of("Range", "bytes=" + offset + "-") : null));
+            } catch (TraversonException e) {
+                if (offset > 0 && e.getCode() == 416) {
+                    return 0;
+                }
+
+                throw e;
+            }
+
+            boolean partial = result.isResponse() && result.getResponse().code() == 206;
+            try (Sink sink = partial
+                ? Okio.sink(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                : Okio.sink(target)) {
+                return transfer(result, sink, partial ? offset : 0);
+            }
+        }
+
+        /**
+         * Streams the target resource into a stream, which is flushed but not closed
+         *
+         * @param target Stream
+         * @return Number of written bytes
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public long getTo(final OutputStream target) throws TraversonException, IOException {
+            return transfer(call(GET), Okio.sink(target), 0);
+        }
+
+        /**
+         * Streams the target resource into a channel, which is not closed
+         *
+         * @param target Channel
+         * @return Number of written bytes
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public long getTo(final WritableByteChannel target) throws TraversonException, IOException {
+            return getTo(Channels.newOutputStream(target));
+        }
+
+        /**
+         * Moves the body segment by segment into the sink, so at most one segment is buffered at a time
+         */
+        private long transfer(final CallResult result, final Sink sink, final long offset) throws IOException {
+            if (result.isEmbedded()) {
+                Buffer buffer = new Buffer();
+                codec.encode(result.getEmbedded()).writeTo(buffer);
+                long size = buffer.size();
+                sink.write(buffer, size);
+                sink.flush();
+                if (progress != null) {
+                    progress.onProgress(size, size);
+                }
+
+                return size;
+            }
+
+            try (ResponseBody body = result.getResponse().body()) {
+                long contentLength = body.contentLength() < 0 ? -1 : offset + body.contentLength();
+                BufferedSource source = body.source();
+                Buffer buffer = new Buffer();
+                long total = 0;
+                long read;
+                while ((read = source.read(buffer, TRANSFER_SEGMENT)) != -1) {
+                    sink.write(buffer, read);
+                    total += read;
+                    if (progress != null) {
+                        progress.onProgress(offset + total, contentLength);
+                    }
+                }
+                sink.flush();
+
+                return total;
+            }
+        }
+
+        public <T> T get(Class<T> returnType) throws TraversonException, IOException {
+            return prepareResponse(
+                call(GET),
+                returnType
+            );
+        }
+
+        public <T> T get(Type type) throws TraversonException, IOException {
+            return prepareResponse(
+                call(GET),
+                type
+            );
+        }
+
+        public Response post() throws TraversonException, IOException {
+            return call(POST).getResponse();
+        }
+
+        public Response post(Object body) throws TraversonException, IOException {
+            return call(POST, json(body)).getResponse();
+        }
+
+        public <T, R> R post(T body, Class<R> returnType) throws TraversonException, IOException {
+            return (R) prepareResponse(
+                CallResult.response(handle201LocationRedirect(call(POST, json(body)).getResponse())),
+                returnType
+            );
+        }
+
+        /**
+         * Posts the body, which is streamed while being sent when it is a {@link StreamingBody}
+         *
+         * @param body Body
+         * @return Response
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public Response post(final RequestBody body) throws TraversonException, IOException {
+            return call(POST, upload(body)).getResponse();
+        }
+
+        public <R> R postForm(Map<String, String> params, Class<R> returnType) throws TraversonException, IOException {
+            final MultipartBody.Builder requestBody = new MultipartBody.Builder()
+                .setType(FORM);
+            params.forEach((name, value) -> requestBody.addFormDataPart(name, value));
+
+            return (R) prepareResponse(
+                CallResult.response(handle201LocationRedirect(call(POST,
+                    requestBody.build()).getResponse())),
+                returnType
+            );
+        }
+
+        public Response postFile(File file) throws TraversonException, IOException {
+            RequestBody requestBody = new MultipartBody.Builder()
+                .setType(FORM)
+                .addFormDataPart(
+                    "file",
+                    file.getName(),
+                    RequestBody.create(
+                        MediaType.parse(URLConnection.guessContentTypeFromName(file.getName())),
+                        file
+                    )
+                )
+                .build();
+
+            return handleErrors(await(transport(
+                new Request.Builder()
+                    .url(UriTemplate.fromUri(rels.get(0)).expand(templateParameters))
+                    .headers(requestHeaders())
+                    .post(requestBody)
+                    .build(),
+                false
+            )));
+        }
+
+        public <T, R> R put(T object, Class<R> returnType) throws TraversonException, IOException {
+            return prepareResponse(
+                call(PUT, json(object)),
                 returnType
             );
         }
 
-        public <R> R postForm(Map<String, String> params, Class<R> returnType) throws TraversonException, IOException {
-            final MultipartBody.Builder requestBody = new MultipartBody.Builder()
-                .setType(FORM);
-            params.forEach((name, value) -> requestBody.addFormDataPart(name, value));
+        /**
+         * Puts the body, which is streamed while being sent when it is a {@link StreamingBody}
+         *
+         * @param body Body
+         * @return Response
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public Response put(final RequestBody body) throws TraversonException, IOException {
+            return call(PUT, upload(body)).getResponse();
+        }
+
+        private RequestBody upload(final RequestBody body) {
+            return progress == null ? body : StreamingBody.withProgress(body, progress);
+        }
+
+        public void delete() throws TraversonException, IOException {
+            call(DELETE);
+        }
+
+        /**
+         * Lazily iterates over the embedded items of a paginated collection, following its "next" links
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Iterator over the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Iterator<T> iterate(final String rel, final Class<T> type) {
+            return pages(rel, type);
+        }
+
+        /**
+         * Lazily iterates over the embedded items of a paginated collection, following its "next" links
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Iterator over the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Iterator<T> iterate(final String rel, final Type type) {
+            return pages(rel, type);
+        }
+
+        /**
+         * Lazily streams the embedded items of a paginated collection, following its "next" links.
+         * Closing the stream stops requesting pages, the ones already requested complete in the background.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Stream of the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Stream<T> stream(final String rel, final Class<T> type) {
+            return stream(rel, (Type) type);
+        }
+
+        /**
+         * Lazily streams the embedded items of a paginated collection, following its "next" links.
+         * Closing the stream stops requesting pages, the ones already requested complete in the background.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Stream of the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Stream<T> stream(final String rel, final Type type) {
+            PageIterator<T> pages = pages(rel, type);
+
+            return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::cancel);
+        }
+
+        /**
+         * Lazily streams the embedded items of the target resource. The items are bound one at a time while the
+         * response body is read, so memory use doesn't depend on the number of items. Closing the stream, or
+         * consuming it entirely, closes the response.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Stream of the items
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public <T> Stream<T> streamEmbedded(final String rel, final Class<T> type) throws TraversonException, IOException {
+            return streamEmbedded(rel, (Type) type);
+        }
+
+        /**
+         * Lazily streams the embedded items of the target resource. The items are bound one at a time while the
+         * response body is read, so memory use doesn't depend on the number of items. Closing the stream, or
+         * consuming it entirely, closes the response.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Stream of the items
+         * @throws TraversonException
+         * @throws IOException
+         * @since 1.5.0
+         */
+        public <T> Stream<T> streamEmbedded(final String rel, final Type type) throws TraversonException, IOException {
+            CallResult result = call(GET);
+            if (result.isEmbedded()) {
+                return items(result.getEmbedded(), rel).stream().map(item -> codec.<T>decode(item, type));
+            }
+
+            ResponseBody body = result.getResponse().body();
+            Iterator<T> items;
+            try {
+                items = codec.decodeEmbedded(body, rel, type);
+            } catch (IOException | RuntimeException e) {
+                body.close();
+
+                throw e;
+            }
+
+            return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED), false)
+                .onClose(body::close);
+        }
+
+        /**
+         * Publishes the embedded items of a paginated collection, following its "next" links. Pages are requested
+         * only as far as the subscriber demands items, up to {@link #readAhead(int)} pages at a time. Every
+         * subscription traverses anew. Cancelling it stops requesting pages, the ones already requested complete in
+         * the background.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Publisher of the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Publisher<T> publish(final String rel, final Class<T> type) {
+            return publish(rel, (Type) type);
+        }
+
+        /**
+         * Publishes the embedded items of a paginated collection, following its "next" links. Pages are requested
+         * only as far as the subscriber demands items, up to {@link #readAhead(int)} pages at a time. Every
+         * subscription traverses anew. Cancelling it stops requesting pages, the ones already requested complete in
+         * the background.
+         *
+         * @param rel Rel of the embedded items
+         * @param type Type of the items
+         * @param <T> Type of the items
+         * @return Publisher of the items of all pages
+         * @since 1.5.0
+         */
+        public <T> Publisher<T> publish(final String rel, final Type type) {
+            return new DemandPublisher<T>(() -> {
+                final AtomicReference<CompletableFuture<PageIterator.Page>> last = new AtomicReference<>();
+
+                return () -> {
+                    CompletableFuture<PageIterator.Page> page = last.get() == null
+                        ? firstPage(rel)
+                        : last.get().thenCompose(previous -> previous == null || previous.getNext() == null
+                            ? CompletableFuture.completedFuture(null)
+                            : nextPage(previous.getNext(), rel)
+                        );
+                    last.set(page);
+
+                    return page.thenApply(current -> current == null ? null : bind(current.getItems(), type));
+                };
+            }, readAhead);
+        }
+
+        private <T> List<T> bind(final List<JsonElement> items, final Type type) {
+            List<T> values = new ArrayList<>(items.size());
+            for (JsonElement item : items) {
+                values.add(codec.decode(item, type));
+            }
+
+            return values;
+        }
+
+        private <T> PageIterator<T> pages(final String rel, final Type type) {
+            return new PageIterator<>(
+                firstPage(rel),
+                url -> nextPage(url, rel),
+                element -> codec.decode(element, type),
+                readAhead
+            );
+        }
+
+        private CompletableFuture<PageIterator.Page> firstPage(final String rel) {
+            return call(GET, true).thenApply(unchecked(result ->
+                page(result.isResponse() ? readTree(result.getResponse()) : result.getEmbedded(), rel)
+            ));
+        }
 
-            return (R) prepareResponse(
-                CallResult.response(handle201LocationRedirect(call(POST,
-                    requestBody.build()).getResponse())),
-                returnType
+        private CompletableFuture<PageIterator.Page> nextPage(final String url, final String rel) {
+            return execute(prepareRequest(url, GET), true)
+                .thenApply(unchecked(response -> page(readTree(handleErrors(response)), rel)));
+        }
+
+        private PageIterator.Page page(final JsonElement resource, final String rel) {
+            TraversonLink next = hopResolver.resolve(resource, "next").getLinkForRel("next");
+
+            return new PageIterator.Page(
+                items(resource, rel),
+                next == null ? null : UriTemplate.fromUri(next.getHref()).expand(new HashMap<>())
             );
         }
 
-        public Response postFile(File file) throws TraversonException, IOException {
-            HashMap<String, String> allHeaders = new HashMap<String, String>();
-            allHeaders.putAll(defaultHeaders);
-            allHeaders.putAll(headers);
+        private List<JsonElement> items(final JsonElement resource, final String rel) {
+            JsonElement items = hopResolver.resolve(resource, rel).getEmbedded().get(rel);
 
-            RequestBody requestBody = new MultipartBody.Builder()
-                .setType(FORM)
-                .addFormDataPart(
-                    "file",
-                    file.getName(),
-                    RequestBody.create(
-                        MediaType.parse(URLConnection.guessContentTypeFromName(file.getName())),
-                        file
-                    )
+            if (items == null || items.isJsonNull()) {
+                return Collections.emptyList();
+            } else if (items.isJsonArray()) {
+                List<JsonElement> elements = new ArrayList<>(items.getAsJsonArray().size());
+                for (JsonElement item : (JsonArray) items) {
+                    elements.add(item);
+                }
+
+                return elements;
+            } else {
+                return Collections.singletonList(items);
+            }
+        }
+
+        private CompletableFuture<JsonElement> getTree(final boolean async) {
+            return call(GET, async).thenApply(unchecked(result ->
+                result.isResponse() ? readTree(result.getResponse()) : result.getEmbedded()
+            ));
+        }
+
+        private <T> CompletableFuture<T> getFrom(final TraversingResult start, final List<String> rels, final Type type,
+                                                 final boolean async) {
+            return getAndFindLinkWithRel(start, rels.iterator(), true, async, new TraversalContext())
+                .thenCompose(result -> result.isUrl()
+                    ? execute(prepareRequest(result.getUrl(), GET), async)
+                        .thenApply(response -> CallResult.response(handleErrors(response)))
+                    : CompletableFuture.completedFuture(CallResult.embedded(result.getEmbedded()))
                 )
-                .build();
+                .thenApply(unchecked(result -> prepareResponse(result, type)));
+        }
 
-            return handleErrors(
-                client.newCall(
-                    new Request.Builder()
-                        .url(UriTemplate.fromUri(rels.get(0)).expand(templateParameters).toString())
-                        .headers(Headers.of(allHeaders))
-                        .post(requestBody)
-                        .build()
-                ).execute()
-            );
+        /**
+         * Follows several rel paths from the root at once. Paths are merged into a prefix tree, so every shared
+         * intermediate resource is fetched only once and independent branches are resolved in parallel.
+         *
+         * @param paths Rel paths to follow
+         * @return Multi traversing object
+         * @since 1.5.0
+         */
+        public MultiTraversing followAll(final String[]... paths) {
+            return new MultiTraversing(paths);
         }
 
-        public <T, R> R put(T object, Class<R> returnType) throws TraversonException, IOException {
-            return prepareResponse(
-                call(PUT, json(object)),
-                returnType
-            );
+        /**
+         * Loads the resource and fans out over the items embedded with given rel
+         *
+         * @param rel Rel of the embedded items
+         * @return Fan-out object
+         * @since 1.5.0
+         */
+        public FanOut forEachEmbedded(final String rel) {
+            return new FanOut(rel);
         }
 
-        public void delete() throws TraversonException, IOException {
-            call(DELETE);
+        /**
+         * Asynchronous version of {@link #get()}
+         *
+         * @return Future of the response
+         * @since 1.5.0
+         */
+        public CompletableFuture<Response> getAsync() {
+            return call(GET, true).thenApply(CallResult::getResponse);
+        }
+
+        /**
+         * Asynchronous version of {@link #get(Class)}
+         *
+         * @param returnType Type of the result
+         * @param <T> Type of the result
+         * @return Future of the result
+         * @since 1.5.0
+         */
+        public <T> CompletableFuture<T> getAsync(Class<T> returnType) {
+            return getAsync((Type) returnType);
+        }
+
+        /**
+         * Asynchronous version of {@link #get(Type)}
+         *
+         * @param type Type of the result
+         * @param <T> Type of the result
+         * @return Future of the result
+         * @since 1.5.0
+         */
+        public <T> CompletableFuture<T> getAsync(Type type) {
+            return call(GET, true).thenApply(unchecked(result -> prepareResponse(result, type)));
+        }
+
+        /**
+         * Asynchronous version of {@link #post()}
+         *
+         * @return Future of the response
+         * @since 1.5.0
+         */
+        public CompletableFuture<Response> postAsync() {
+            return call(POST, true).thenApply(CallResult::getResponse);
+        }
+
+        /**
+         * Asynchronous version of {@link #post(Object)}
+         *
+         * @param body Body
+         * @return Future of the response
+         * @since 1.5.0
+         */
+        public CompletableFuture<Response> postAsync(Object body) {
+            return call(POST, json(body), true).thenApply(CallResult::getResponse);
+        }
+
+        /**
+         * Asynchronous version of {@link #post(RequestBody)}
+         *
+         * @param body Body
+         * @return Future of the response
+         * @since 1.5.0
+         */
+        public CompletableFuture<Response> postAsync(final RequestBody body) {
+            return call(POST, upload(body), true).thenApply(CallResult::getResponse);
+        }
+
+        /**
+         * Asynchronous version of {@link #post(Object, Class)}
+         *
+         * @param body Body
+         * @param returnType Type of the result
+         * @param <T> Type of the body
+         * @param <R> Type of the result
+         * @return Future of the result
+         * @since 1.5.0
+         */
+        public <T, R> CompletableFuture<R> postAsync(T body, Class<R> returnType) {
+            return call(POST, json(body), true)
+                .thenCompose(result -> handle201LocationRedirect(result.getResponse(), true))
+                .thenApply(unchecked(response -> prepareResponse(CallResult.response(response), returnType)));
+        }
+
+        /**
+         * Asynchronous version of {@link #put(Object, Class)}
+         *
+         * @param object Body
+         * @param returnType Type of the result
+         * @param <T> Type of the body
+         * @param <R> Type of the result
+         * @return Future of the result
+         * @since 1.5.0
+         */
+        public <T, R> CompletableFuture<R> putAsync(T object, Class<R> returnType) {
+            return call(PUT, json(object), true).thenApply(unchecked(result -> prepareResponse(result, returnType)));
+        }
+
+        /**
+         * Asynchronous version of {@link #put(RequestBody)}
+         *
+         * @param body Body
+         * @return Future of the response
+         * @since 1.5.0
+         */
+        public CompletableFuture<Response> putAsync(final RequestBody body) {
+            return call(PUT, upload(body), true).thenApply(CallResult::getResponse);
+        }
+
+        /**
+         * Asynchronous version of {@link #delete()}
+         *
+         * @return Future completed once the resource is deleted
+         * @since 1.5.0
+         */
+        public CompletableFuture<Void> deleteAsync() {
+            return call(DELETE, true).thenAccept(result -> result.getResponse().close());
+        }
+
+        /**
+         * Follows several rel paths sharing their common prefixes
+         *
+         * @since 1.5.0
+         */
+        public class MultiTraversing {
+
+            private final PathNode root = new PathNode();
+
+            private final List<List<String>> paths = new ArrayList<>();
+
+            private MultiTraversing(final String[]... paths) {
+                for (String[] path : paths) {
+                    PathNode node = root;
+                    for (String rel : path) {
+                        node = node.getChildren().computeIfAbsent(rel, key -> new PathNode());
+                    }
+                    node.setPath(Arrays.asList(path));
+                    this.paths.add(node.getPath());
+                }
+            }
+
+            /**
+             * Retrieves the targets of all paths
+             *
+             * @param returnType Type of the results
+             * @param <T> Type of the results
+             * @return Results by path, in the order the paths were given
+             * @throws TraversonException If any of the traversals failed
+             * @throws IOException If any of the traversals failed
+             * @since 1.5.0
+             */
+            public <T> Map<List<String>, T> get(final Class<T> returnType) throws TraversonException, IOException {
+                return await(this.<T>getAsync(returnType));
+            }
+
+            /**
+             * Retrieves the targets of all paths
+             *
+             * @param type Type of the results
+             * @param <T> Type of the results
+             * @return Results by path, in the order the paths were given
+             * @throws TraversonException If any of the traversals failed
+             * @throws IOException If any of the traversals failed
+             * @since 1.5.0
+             */
+            public <T> Map<List<String>, T> get(final Type type) throws TraversonException, IOException {
+                return await(this.<T>getAsync(type));
+            }
+
+            /**
+             * Asynchronous version of {@link #get(Type)}
+             *
+             * @param type Type of the results
+             * @param <T> Type of the results
+             * @return Future of the results by path, in the order the paths were given
+             * @since 1.5.0
+             */
+            public <T> CompletableFuture<Map<List<String>, T>> getAsync(final Type type) {
+                final Map<List<String>, T> results = Collections.synchronizedMap(new HashMap<>());
+
+                return resolve(TraversingResult.url(rootUri), root, type, results).thenApply(done -> {
+                    Map<List<String>, T> ordered = new LinkedHashMap<>();
+                    paths.forEach(path -> ordered.put(path, results.get(path)));
+
+                    return ordered;
+                });
+            }
+
+            private <T> CompletableFuture<Void> resolve(final TraversingResult resource, final PathNode node, final Type type,
+                                                        final Map<List<String>, T> results) {
+                if (resource.isUrl() && node.getChildren().isEmpty() && node.getPath() != null) {
+                    // targets aren't hops, so they skip the hop caches and are decoded straight from the body
+                    return execute(prepareRequest(resource.getUrl(), GET), true)
+                        .thenApply(unchecked(response -> Traversing.this.<T>prepareResponse(
+                            CallResult.response(handleErrors(response)), type)))
+                        .thenAccept(value -> results.put(node.getPath(), value));
+                }
+
+                CompletableFuture<JsonElement> tree = resource.isUrl()
+                    ? fetchResource(resource.getUrl(), true, new TraversalContext()).thenApply(HopResource::getTree)
+                    : CompletableFuture.completedFuture(resource.getEmbedded());
+
+                return tree.thenCompose(element -> {
+                    if (node.getPath() != null) {
+                        results.put(node.getPath(), codec.decode(element, type));
+                    }
+
+                    List<CompletableFuture<Void>> branches = new ArrayList<>(node.getChildren().size());
+                    node.getChildren().forEach((rel, child) -> branches.add(resolve(next(element, rel), child, type, results)));
+
+                    return CompletableFuture.allOf(branches.toArray(new CompletableFuture<?>[0]));
+                });
+            }
+
+            private TraversingResult next(final JsonElement resource, final String rel) {
+                TraversonResult<JsonElement> resolved = hopResolver.resolve(resource, rel);
+                if (resolved.getEmbedded().containsKey(rel)) {
+                    return TraversingResult.embedded(resolved.getEmbedded().get(rel));
+                }
+
+                TraversonLink link = resolved.getLinkForRel(rel);
+                if (link == null) {
+                    throw new TraversonException(404, String.format("Couldn't find '%s'", rel), "");
+                }
+
+                return TraversingResult.url(expand(link.getHref()));
+            }
+        }
+
+        /**
+         * Follows the same rels from every embedded item of a resource, concurrently
+         *
+         * @since 1.5.0
+         */
+        public class FanOut {
+
+            private final String rel;
+
+            private final List<String> rels;
+
+            private int concurrency = Integer.MAX_VALUE;
+
+            private FanOut(final String rel) {
+                this.rel = rel;
+                this.rels = new ArrayList<>();
+            }
+
+            /**
+             * Follows specified endpoints from every item
+             *
+             * @param rels List of endpoints to follow
+             * @return FanOut object
+             * @since 1.5.0
+             */
+            public FanOut follow(final String... rels) {
+                this.rels.addAll(Arrays.asList(rels));
+
+                return this;
+            }
+
+            /**
+             * Limits the number of items traversed at the same time. Requests are additionally limited by
+             * {@link Builder#maxRequests(int)} and {@link Builder#maxRequestsPerHost(int)}.
+             *
+             * @param concurrency Maximum number of concurrent item traversals
+             * @return FanOut object
+             * @since 1.5.0
+             */
+            public FanOut concurrency(final int concurrency) {
+                this.concurrency = concurrency;
+
+                return this;
+            }
+
+            /**
+             * Retrieves the target of every item
+             *
+             * @param returnType Type of the results
+             * @param <T> Type of the results
+             * @return Results in item order
+             * @throws TraversonException If any of the traversals failed
+             * @throws IOException If any of the traversals failed
+             * @since 1.5.0
+             */
+            public <T> List<T> getAll(final Class<T> returnType) throws TraversonException, IOException {
+                return await(this.<T>getAllAsync(returnType));
+            }
+
+            /**
+             * Retrieves the target of every item
+             *
+             * @param type Type of the results
+             * @param <T> Type of the results
+             * @return Results in item order
+             * @throws TraversonException If any of the traversals failed
+             * @throws IOException If any of the traversals failed
+             * @since 1.5.0
+             */
+            public <T> List<T> getAll(final Type type) throws TraversonException, IOException {
+                return await(this.<T>getAllAsync(type));
+            }
+
+            /**
+             * Asynchronous version of {@link #getAll(Type)}
+             *
+             * @param type Type of the results
+             * @param <T> Type of the results
+             * @return Future of the results in item order
+             * @since 1.5.0
+             */
+            public <T> CompletableFuture<List<T>> getAllAsync(final Type type) {
+                return getTree(true).thenCompose(resource -> new FanOutCall<T>(items(resource, rel), type).start());
+            }
+
+            /**
+             * Publishes the target of every item in item order. Items are traversed only as far as the subscriber
+             * demands results, at most {@link #concurrency(int)} at a time. Every subscription traverses anew.
+             * Cancelling it stops starting items, the ones already started complete in the background.
+             *
+             * @param returnType Type of the results
+             * @param <T> Type of the results
+             * @return Publisher of the results
+             * @since 1.5.0
+             */
+            public <T> Publisher<T> publish(final Class<T> returnType) {
+                return publish((Type) returnType);
+            }
+
+            /**
+             * Publishes the target of every item in item order. Items are traversed only as far as the subscriber
+             * demands results, at most {@link #concurrency(int)} at a time. Every subscription traverses anew.
+             * Cancelling it stops starting items, the ones already started complete in the background.
+             *
+             * @param type Type of the results
+             * @param <T> Type of the results
+             * @return Publisher of the results
+             * @since 1.5.0
+             */
+            public <T> Publisher<T> publish(final Type type) {
+                return new DemandPublisher<T>(() -> {
+                    final AtomicReference<CompletableFuture<List<JsonElement>>> items = new AtomicReference<>();
+                    final AtomicInteger next = new AtomicInteger();
+
+                    return () -> {
+                        if (items.get() == null) {
+                            // the first batch only resolves the items, once it completes the demanded items are
+                            // traversed together
+                            items.set(getTree(true).thenApply(resource -> items(resource, rel)));
+
+                            return items.get().thenApply(elements -> Collections.<T>emptyList());
+                        } else if (!items.get().isDone() || items.get().isCompletedExceptionally()
+                            || next.get() > items.get().join().size()) {
+                            // the items are not known yet or their end has already been requested
+                            return null;
+                        }
+
+                        final List<JsonElement> elements = items.get().join();
+                        final int index = next.getAndIncrement();
+
+                        return index < elements.size()
+                            ? Traversing.this.<T>getFrom(TraversingResult.embedded(elements.get(index)), rels, type, true)
+                                .thenApply(Collections::singletonList)
+                            : CompletableFuture.completedFuture(null);
+                    };
+                }, concurrency);
+            }
+
+            private class FanOutCall<T> {
+
+                private final List<JsonElement> items;
+
+                private final Type type;
+
+                private final Object[] values;
+
+                private final AtomicInteger next = new AtomicInteger();
+
+                private final AtomicInteger remaining;
+
+                private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+                private volatile boolean failed;
+
+                FanOutCall(final List<JsonElement> items, final Type type) {
+                    this.items = items;
+                    this.type = type;
+                    this.values = new Object[items.size()];
+                    this.remaining = new AtomicInteger(items.size());
+                }
+
+                CompletableFuture<List<T>> start() {
+                    if (items.isEmpty()) {
+                        result.complete(Collections.emptyList());
+                    }
+
+                    for (int i = 0; i < Math.min(concurrency, items.size()); i++) {
+                        launch();
+                    }
+
+                    return result;
+                }
+
+                private void launch() {
+                    int index;
+                    while (!failed && (index = next.getAndIncrement()) < items.size()) {
+                        CompletableFuture<T> item = getFrom(TraversingResult.embedded(items.get(index)), rels, type, true);
+                        if (!item.isDone()) {
+                            final int current = index;
+                            item.whenComplete((value, e) -> {
+                                settle(current, value, e);
+                                launch();
+                            });
+
+                            return;
+                        }
+
+                        try {
+                            settle(index, item.join(), null);
+                        } catch (CompletionException e) {
+                            settle(index, null, e.getCause());
+                        }
+                    }
+                }
+
+                @SuppressWarnings("unchecked")
+                private void settle(final int index, final T value, final Throwable e) {
+                    if (e != null) {
+                        failed = true;
+                        result.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                    } else {
+                        values[index] = value;
+                        if (remaining.decrementAndGet() == 0) {
+                            result.complete((List<T>) (List<?>) Arrays.asList(values));
+                        }
+                    }
+                }
+            }
         }
     }
 
@@ -452,10 +2134,48 @@ public class Traverson {
 
         private final OkHttpClient.Builder client;
 
-        private Gson serializer;
+        private TraversonCodec codec;
+
+        private TraversonCodec[] accepted = new TraversonCodec[0];
 
         private Map<String, String> defaultHeaders;
 
+        private final AtomicReference<Headers> sharedHeaders;
+
+        private LinkCache linkCache;
+
+        private ExecutorService executor;
+
+        private int maxRequests;
+
+        private int maxRequestsPerHost;
+
+        private List<String> coalescingHeaders;
+
+        private int resourceCacheSize;
+
+        private RetryPolicy retryPolicy;
+
+        private CircuitBreaker circuitBreaker;
+
+        private Bulkhead hostBulkhead;
+
+        private Bulkhead relBulkhead;
+
+        private TraversonMetrics metrics;
+
+        private double traceRate;
+
+        private Consumer<TraversalTrace> traceConsumer;
+
+        private List<String[]> warmUpPaths;
+
+        private boolean warmUpInBackground;
+
+        private ContentEncoding requestEncoding;
+
+        private long compressionThreshold;
+
         /**
          * Constructor with parameters
          *
@@ -465,8 +2185,9 @@ public class Traverson {
         public Builder(final String baseUri) {
             this.baseUri = baseUri;
             this.client = new OkHttpClient.Builder();
-            this.serializer = new Gson();
+            this.codec = new GsonCodec();
             this.defaultHeaders = new HashMap<>();
+            this.sharedHeaders = new AtomicReference<>(Headers.of());
         }
 
         /**
@@ -510,42 +2231,113 @@ public class Traverson {
         }
 
         /**
-         * Sets default write timeout
+         * Sets default write timeout
+         *
+         * @param timeout Timeout
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.2.0
+         */
+        public Builder writeTimeout(final long timeout, final TimeUnit unit) {
+            this.client.writeTimeout(timeout, unit);
+
+            return this;
+        }
+
+        /**
+         * Sets default connection timeout
+         *
+         * @param timeout Timeout
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.2.0
+         */
+        public Builder connectTimeout(final long timeout, final TimeUnit unit) {
+            this.client.connectTimeout(timeout, unit);
+
+            return this;
+        }
+
+        /**
+         * Sets the executor running asynchronous calls and their continuations
+         *
+         * @param executor Executor
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder executor(final ExecutorService executor) {
+            this.executor = executor;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent requests
+         *
+         * @param maxRequests Maximum number of requests, defaults to 64
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder maxRequests(final int maxRequests) {
+            this.maxRequests = maxRequests;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent requests to a single host
+         *
+         * @param maxRequestsPerHost Maximum number of requests, defaults to 5
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder maxRequestsPerHost(final int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+
+            return this;
+        }
+
+        /**
+         * Sets default serializer, the {@link HalTypeAdapterFactory HAL adapters} are registered on a copy of it
          *
-         * @param timeout Timeout
-         * @param unit Time unit
+         * @param serializer Serializer
          * @return Builder object
          * @since 1.2.0
          */
-        public Builder writeTimeout(final long timeout, final TimeUnit unit) {
-            this.client.writeTimeout(timeout, unit);
+        public Builder serializer(final Gson serializer) {
+            this.codec = new GsonCodec(serializer.newBuilder()
+                .registerTypeAdapterFactory(new HalTypeAdapterFactory())
+                .create());
 
             return this;
         }
 
         /**
-         * Sets default connection timeout
+         * Sets the codec of request and response bodies, defaults to a Gson based JSON codec binding HAL resources
+         * without reflection
          *
-         * @param timeout Timeout
-         * @param unit Time unit
+         * @param codec Codec
          * @return Builder object
-         * @since 1.2.0
+         * @since 1.5.0
          */
-        public Builder connectTimeout(final long timeout, final TimeUnit unit) {
-            this.client.connectTimeout(timeout, unit);
+        public Builder codec(final TraversonCodec codec) {
+            this.codec = codec;
 
             return this;
         }
 
         /**
-         * Sets default serializer
+         * Negotiates the representation of responses, e.g. a binary encoding like {@link CborCodec}: the media types
+         * of the codecs are sent in the Accept header ahead of the one of {@link #codec(TraversonCodec) the codec},
+         * which decodes the responses of any other media type and still encodes the request bodies. An explicitly
+         * set default Accept header is kept.
          *
-         * @param serializer Serializer
+         * @param codecs Codecs in order of preference
          * @return Builder object
-         * @since 1.2.0
+         * @since 1.5.0
          */
-        public Builder serializer(final Gson serializer) {
-            this.serializer = serializer;
+        public Builder accept(final TraversonCodec... codecs) {
+            this.accepted = codecs;
 
             return this;
         }
@@ -600,19 +2392,30 @@ public class Traverson {
             this.client.authenticator(new okhttp3.Authenticator() {
 
                 public Request authenticate(Route route, Response response) throws IOException {
-                    String credentials = authenticator.getCredentials();
+                    String credentials = credentials(authenticator);
+                    if (credentials.equals(response.request().header("Authorization"))) {
+                        authenticator.invalidate(credentials);
+                        credentials = credentials(authenticator);
+                    }
+
                     if (credentials.equals(response.request().header("Authorization"))) {
                         throw new TraversonException(401, "Unauthorized", response.request().url().toString());
+                    } else if (!StreamingBody.isReplayable(response.request().body())) {
+                        // the body has been consumed by the rejected request, the 401 is reported instead
+                        return null;
                     } else {
-                        defaultHeader("Authorization", credentials);
-
-                        Request.Builder newRequest = response.request().newBuilder()
-                            .headers(Headers.of(defaultHeaders));
-
-                        if (METHOD_POST.equalsIgnoreCase(response.request().method()) || METHOD_PUT.equalsIgnoreCase(response.request().method())) {
-                            newRequest.addHeader(HEADER_CONTENT_TYPE, response.request().header(HEADER_CONTENT_TYPE))
-                                .addHeader(HEADER_CONTENT_LENGHT, response.request().header(HEADER_CONTENT_LENGHT))
-                                .method(response.request().method(), response.request().body());
+                        Request request = response.request();
+                        Request.Builder newRequest = request.newBuilder()
+                            .headers(authorize(credentials));
+
+                        if (METHOD_POST.equalsIgnoreCase(request.method()) || METHOD_PUT.equalsIgnoreCase(request.method())) {
+                            // content headers are derived from the body, which is written again rather than copied
+                            for (String name : new String[] { HEADER_CONTENT_TYPE, HEADER_CONTENT_LENGHT, HEADER_CONTENT_ENCODING }) {
+                                if (request.header(name) != null) {
+                                    newRequest.header(name, request.header(name));
+                                }
+                            }
+                            newRequest.method(request.method(), request.body());
                         }
 
                         return newRequest.build();
@@ -626,9 +2429,8 @@ public class Traverson {
                         Request request = chain.request();
 
                         if (request.header("Authorization") == null) {
-                            defaultHeader("Authorization", authenticator.getCredentials());
                             request = request.newBuilder()
-                                .headers(Headers.of(defaultHeaders))
+                                .headers(authorize(credentials(authenticator)))
                                 .build();
                         }
 
@@ -640,6 +2442,215 @@ public class Traverson {
             return this;
         }
 
+        /**
+         * Retrieves the credentials, reporting a failure to obtain them as the IOException OkHttp expects
+         */
+        private static String credentials(final TraversonAuthenticator authenticator) throws IOException {
+            try {
+                return authenticator.getCredentials();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Enables the cache of resolved rel paths, so repeated traversals go straight to the final url.
+         * Entries expire after the given time to live or the smallest max-age of the hop responses,
+         * whichever comes first, and are dropped when the cached url answers with 404 or 410. Requests with a
+         * one-shot {@link StreamingBody} always traverse, as they couldn't be sent again after such an answer.
+         *
+         * @param maxSize Maximum number of cached rel paths
+         * @param ttl Maximum time to live
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder linkCache(final int maxSize, final long ttl, final TimeUnit unit) {
+            this.linkCache = new LinkCache(maxSize, ttl, unit);
+
+            return this;
+        }
+
+        /**
+         * Lets concurrent identical GET requests of intermediate resources share a single in-flight call and its
+         * parsed resource. Requests are identical if their urls and their Authorization and Accept headers match.
+         *
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder coalesceRequests() {
+            return coalesceRequests(DEFAULT_KEY_HEADERS);
+        }
+
+        /**
+         * Lets concurrent identical GET requests of intermediate resources share a single in-flight call and its
+         * parsed resource. Requests are identical if their urls and the given headers match.
+         *
+         * @param headers Names of the headers identifying a request
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder coalesceRequests(final List<String> headers) {
+            this.coalescingHeaders = new ArrayList<>(headers);
+
+            return this;
+        }
+
+        /**
+         * Enables the in-heap cache of parsed intermediate resources. Fresh resources are served without any request,
+         * expired ones are revalidated with If-None-Match/If-Modified-Since and reused on 304.
+         *
+         * @param maxEntries Maximum number of cached resources, the least recently used ones are evicted first
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder resourceCache(final int maxEntries) {
+            this.resourceCacheSize = maxEntries;
+
+            return this;
+        }
+
+        /**
+         * Sets the policy of retrying failed requests. Only the failed hop is sent again, not the whole traversal.
+         *
+         * @param retryPolicy Retry policy
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder retryPolicy(final RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+
+            return this;
+        }
+
+        /**
+         * Sets the per-host circuit breaker. Requests to a host whose circuit is open fail with
+         * {@link CircuitOpenException} without opening a connection.
+         *
+         * @param circuitBreaker Circuit breaker
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder circuitBreaker(final CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+
+            return this;
+        }
+
+        /**
+         * Limits the number of concurrent requests per host. Requests beyond the limit fail with
+         * {@link BulkheadFullException} instead of waiting for OkHttp's dispatcher. A request holds its permit
+         * until the response headers arrived, reading the body isn't limited.
+         *
+         * @param maxConcurrentRequests Maximum number of concurrent requests per host
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder hostBulkhead(final int maxConcurrentRequests) {
+            this.hostBulkhead = new Bulkhead(maxConcurrentRequests);
+
+            return this;
+        }
+
+        /**
+         * Limits the number of concurrent traversals per root and rel path. Traversals beyond the limit fail with
+         * {@link BulkheadFullException}. Urls followed with {@link Traversing#followUri(String)} aren't limited.
+         *
+         * @param maxConcurrentTraversals Maximum number of concurrent traversals per rel path
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder relBulkhead(final int maxConcurrentTraversals) {
+            this.relBulkhead = new Bulkhead(maxConcurrentTraversals);
+
+            return this;
+        }
+
+        /**
+         * Sets the listener of traversal and HTTP events. Without a listener no events are collected.
+         *
+         * @param metrics Metrics listener, null removes it
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder metrics(final TraversonMetrics metrics) {
+            this.metrics = metrics;
+            this.client.eventListenerFactory(metrics == null
+                ? call -> EventListener.NONE
+                : MetricsEventListener.factory(metrics));
+
+            return this;
+        }
+
+        /**
+         * Warms the client up when it is built, see {@link #warmUp(boolean, String[]...)}. {@link #build()} waits
+         * for the warm-up to complete.
+         *
+         * @param relPaths Rel paths to traverse
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder warmUp(final String[]... relPaths) {
+            return warmUp(false, relPaths);
+        }
+
+        /**
+         * Warms the client up when it is built: primes the codec, fetches the root and traverses the rel
+         * paths, opening connections to the API on the way. Failures don't fail the build, they are recorded
+         * in the {@link Traverson#getWarmUp() report}.
+         *
+         * @param background Whether {@link #build()} returns without waiting for the warm-up to complete
+         * @param relPaths Rel paths to traverse
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder warmUp(final boolean background, final String[]... relPaths) {
+            this.warmUpPaths = Arrays.asList(relPaths);
+            this.warmUpInBackground = background;
+
+            return this;
+        }
+
+        /**
+         * Traces a random share of the traversals, e.g. 0.01 for one percent. Untraced traversals don't
+         * collect any per-hop data.
+         *
+         * @param rate Share of traced traversals between 0 and 1
+         * @param consumer Receives the trace when a traced traversal completed
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder traceSampling(final double rate, final Consumer<TraversalTrace> consumer) {
+            this.traceRate = rate;
+            this.traceConsumer = consumer;
+
+            return this;
+        }
+
+        /**
+         * Compresses POST and PUT bodies, which servers have to accept with the given Content-Encoding. Small
+         * bodies are sent uncompressed as compressing them costs more than it saves, bodies of unknown length are
+         * always compressed. Traversals may override it with {@link Traversing#requestCompression(ContentEncoding, long)}.
+         *
+         * @param encoding Content encoding, null to send the bodies uncompressed
+         * @param threshold Minimum length in bytes of compressed bodies
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder requestCompression(final ContentEncoding encoding, final long threshold) {
+            this.requestEncoding = encoding;
+            this.compressionThreshold = threshold;
+
+            return this;
+        }
+
+        private Headers authorize(final String credentials) {
+            return sharedHeaders.updateAndGet(headers -> credentials.equals(headers.get("Authorization"))
+                ? headers
+                : headers.newBuilder().set("Authorization", credentials).build()
+            );
+        }
+
         /**
          * Builds Traverson object
          *
@@ -647,9 +2658,138 @@ public class Traverson {
          * @since 1.2.0
          */
         public Traverson build() {
-            return new Traverson(this.baseUri, this.client.build(), this.serializer,
-                    this.defaultHeaders);
+            Dispatcher dispatcher = this.executor == null ? new Dispatcher() : new Dispatcher(this.executor);
+            if (this.maxRequests > 0) {
+                dispatcher.setMaxRequests(this.maxRequests);
+            }
+            if (this.maxRequestsPerHost > 0) {
+                dispatcher.setMaxRequestsPerHost(this.maxRequestsPerHost);
+            }
+            this.client.dispatcher(dispatcher);
+            TraversonCodec codec = this.codec;
+            Map<String, String> headers = this.defaultHeaders;
+            if (this.accepted.length > 0) {
+                NegotiatingCodec negotiating = new NegotiatingCodec(this.codec, this.accepted);
+                codec = negotiating;
+                if (headers.keySet().stream().noneMatch("Accept"::equalsIgnoreCase)) {
+                    headers = new HashMap<>(this.defaultHeaders);
+                    headers.put("Accept", negotiating.getAccept());
+                }
+            }
+            this.sharedHeaders.set(Headers.of(headers));
+
+            // outermost, so failures of the authenticator and the other interceptors are reported too
+            OkHttpClient.Builder client = this.client.build().newBuilder();
+            client.interceptors().add(0, UncheckedCallException.INTERCEPTOR);
+
+            Traverson traverson = new Traverson(this.baseUri, client.build(), codec,
+                    this.sharedHeaders, this.linkCache, this.coalescingHeaders, this.resourceCacheSize,
+                    this.retryPolicy, this.circuitBreaker, this.hostBulkhead, this.relBulkhead,
+                    this.metrics, this.traceRate, this.traceConsumer, this.requestEncoding,
+                    this.compressionThreshold);
+            if (this.warmUpPaths != null) {
+                traverson.warmUp = traverson.warmUp(this.warmUpPaths);
+                if (!this.warmUpInBackground) {
+                    traverson.warmUp.join();
+                }
+            }
+
+            return traverson;
+        }
+    }
+
+    /**
+     * Timer of retries and hedged requests, running on a single daemon thread
+     *
+     * @since 1.5.0
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "traverson-scheduler");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Cancels the source of the response once the dependent stage is cancelled, as cancelling a dependent stage
+     * leaves its source running. A response the source already completed with is closed.
+     */
+    private static <T> CompletableFuture<T> cancelling(final CompletableFuture<Response> source,
+                                                       final CompletableFuture<T> dependent) {
+        dependent.whenComplete((value, e) -> {
+            if (dependent.isCancelled() && !source.cancel(true)) {
+                source.thenAccept(Response::close);
+            }
+        });
+
+        return dependent;
+    }
+
+    /**
+     * Carries a runtime exception thrown by an authenticator or interceptor through OkHttp. Enqueued calls only
+     * report IOExceptions, any other exception would kill the dispatcher thread and never complete the call.
+     *
+     * @since 1.5.0
+     */
+    private static class UncheckedCallException extends IOException {
+
+        private static final okhttp3.Interceptor INTERCEPTOR = chain -> {
+            try {
+                return chain.proceed(chain.request());
+            } catch (RuntimeException e) {
+                throw new UncheckedCallException(e);
+            }
+        };
+
+        private UncheckedCallException(final RuntimeException cause) {
+            super(cause);
         }
+
+        private static Throwable unwrap(final IOException e) {
+            return e instanceof UncheckedCallException ? e.getCause() : e;
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(final Throwable e) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+
+        return future;
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private static <T, R> Function<T, R> unchecked(final IOFunction<T, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IOFunction<T, R> {
+
+        R apply(T value) throws IOException;
     }
 
     /**
@@ -681,6 +2821,30 @@ public class Traverson {
         }
     }
 
+    /**
+     * Thrown when a request is rejected because the circuit of its host is open
+     *
+     * @since 1.5.0
+     */
+    public static class CircuitOpenException extends TraversonException {
+
+        public CircuitOpenException(final String url) {
+            super(503, "Circuit open", url);
+        }
+    }
+
+    /**
+     * Thrown when a request is rejected because too many requests to the same host or rel path are in progress
+     *
+     * @since 1.5.0
+     */
+    public static class BulkheadFullException extends TraversonException {
+
+        public BulkheadFullException(final String url) {
+            super(503, "Bulkhead full", url);
+        }
+    }
+
     @Getter
     @RequiredArgsConstructor(access = PRIVATE)
     @ToString(of = { "url", "embedded" })
@@ -688,7 +2852,7 @@ public class Traverson {
 
         private final String url;
 
-        private final Object embedded;
+        private final JsonElement embedded;
 
         public boolean isUrl() {
             return url != null;
@@ -702,18 +2866,149 @@ public class Traverson {
             return new TraversingResult(url, null);
         }
 
-        public static TraversingResult embedded(Object embedded) {
+        public static TraversingResult embedded(JsonElement embedded) {
             return new TraversingResult(null, embedded);
         }
     }
 
+    /**
+     * Collects what a single traversal learned on its way to the final url
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    private static class TraversalContext {
+
+        private final Map<String, Object> bindings = new HashMap<>();
+
+        private String template;
+
+        private long maxAge = -1;
+
+        private final TraversalTrace trace;
+
+        private final Headers finalHeaders;
+
+        private volatile int hops;
+
+        private volatile HopSource source;
+
+        private volatile TraversalTrace.Hop current;
+
+        TraversalContext() {
+            this(null, null);
+        }
+
+        TraversalContext(final TraversalTrace trace, final Headers finalHeaders) {
+            this.trace = trace;
+            this.finalHeaders = finalHeaders;
+        }
+
+        boolean isTraced() {
+            return trace != null;
+        }
+
+        void next(final String rel, final String url, final HopSource source) {
+            this.hops++;
+            this.source = source;
+            this.current = trace == null ? null : trace.hop(url, rel, source);
+        }
+
+        String request(final String url) {
+            if (trace != null) {
+                current = trace.hop(url, null, HopSource.NETWORK);
+            }
+
+            return url;
+        }
+
+        void source(final HopSource source) {
+            this.source = source;
+            if (current != null) {
+                current.setSource(source);
+            }
+        }
+
+        void response(final Response response) {
+            if (current != null) {
+                current.response(response);
+            }
+        }
+
+        void decoded(final long start) {
+            if (current != null) {
+                current.setDecodeTime(System.nanoTime() - start);
+            }
+        }
+
+        void hop(final Headers headers) {
+            CacheControl cacheControl = CacheControl.parse(headers);
+            // links of a hop which mustn't be stored or reused without revalidation aren't cached
+            int hopMaxAge = cacheControl.noStore() || cacheControl.noCache() ? 0 : cacheControl.maxAgeSeconds();
+            if (hopMaxAge >= 0) {
+                maxAge = maxAge < 0 ? hopMaxAge : Math.min(maxAge, hopMaxAge);
+            }
+        }
+
+        void link(final String href, final List<String> parameterNames, final boolean intermediate,
+                  final Map<String, Object> templateParameters) {
+            if (intermediate) {
+                parameterNames.forEach(name -> bindings.put(name, templateParameters.get(name)));
+            } else {
+                template = href;
+            }
+        }
+    }
+
+    /**
+     * Fully parsed intermediate resource, shareable between traversals
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class HopResource {
+
+        private final JsonElement tree;
+
+        private final Headers headers;
+    }
+
+    /**
+     * Per-traversing headers merged into the default headers snapshot they were merged with
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class MergedHeaders {
+
+        private final Headers defaults;
+
+        private final Headers headers;
+    }
+
+    /**
+     * Node of the prefix tree of rel paths
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @Setter
+    private static class PathNode {
+
+        private final Map<String, PathNode> children = new LinkedHashMap<>();
+
+        private List<String> path;
+    }
+
     @Getter
     @RequiredArgsConstructor(access = PRIVATE)
     public static class CallResult {
 
         private final Response response;
 
-        private final String embedded;
+        private final JsonElement embedded;
 
         public boolean isResponse() {
             return response != null;
@@ -727,7 +3022,7 @@ public class Traverson {
             return new CallResult(response, null);
         }
 
-        public static CallResult embedded(String embedded) {
+        public static CallResult embedded(JsonElement embedded) {
             return new CallResult(null, embedded);
         }
     }
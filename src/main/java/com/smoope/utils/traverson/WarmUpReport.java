@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing of the warm-up run when a {@link Traverson} is built. Times are in nanoseconds, the times of
+ * failed fetches are the times until they failed.
+ *
+ * @since 1.5.0
+ */
+public class WarmUpReport {
+
+    /**
+     * Time spent priming the serializer and the template parser
+     */
+    @Getter
+    private final long primingTime;
+
+    /**
+     * Time of fetching the root resource
+     */
+    @Getter
+    private volatile long rootTime = -1;
+
+    /**
+     * Time of the whole warm-up
+     */
+    @Getter
+    private volatile long duration = -1;
+
+    private final Map<String, Long> pathTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    WarmUpReport(final long primingTime, final List<String[]> relPaths) {
+        this.primingTime = primingTime;
+        relPaths.forEach(path -> pathTimes.put(key(path), -1L));
+    }
+
+    /**
+     * Returns the time of traversing every rel path, keyed by the rels joined with "/"
+     *
+     * @return Times in nanoseconds
+     * @since 1.5.0
+     */
+    public Map<String, Long> getPathTimes() {
+        return Collections.unmodifiableMap(pathTimes);
+    }
+
+    /**
+     * Returns the failures, keyed by the rels joined with "/" or an empty key for the root
+     *
+     * @return Failures
+     * @since 1.5.0
+     */
+    public Map<String, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Whether the root and every rel path could be fetched
+     *
+     * @return Whether nothing failed
+     * @since 1.5.0
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    void root(final long time, final Throwable e) {
+        this.rootTime = time;
+        if (e != null) {
+            failures.put("", cause(e));
+        }
+    }
+
+    void path(final String[] rels, final long time, final Throwable e) {
+        pathTimes.put(key(rels), time);
+        if (e != null) {
+            failures.put(key(rels), cause(e));
+        }
+    }
+
+    WarmUpReport finish(final long duration) {
+        this.duration = duration;
+
+        return this;
+    }
+
+    private static Throwable cause(final Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static String key(final String[] rels) {
+        return String.join("/", rels);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder()
+            .append("WarmUpReport ").append(isSuccess() ? "completed in " : "completed with failures in ")
+            .append(TimeUnit.NANOSECONDS.toMillis(duration)).append(" ms")
+            .append("\n  priming ").append(TimeUnit.NANOSECONDS.toMillis(primingTime)).append(" ms")
+            .append("\n  root ").append(TimeUnit.NANOSECONDS.toMillis(rootTime)).append(" ms");
+        synchronized (pathTimes) {
+            pathTimes.forEach((path, time) -> builder
+                .append("\n  ").append(path).append(' ')
+                .append(TimeUnit.NANOSECONDS.toMillis(time)).append(" ms")
+                .append(failures.containsKey(path) ? " (failed)" : ""));
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Headers;
+
+/**
+ * Size and time bounded cache of resolved rel paths
+ *
+ * Maps a root uri and a chain of rels to the unexpanded href template of the final link, so repeated
+ * traversals can skip the intermediate hops. Entries remember the values of the template parameters
+ * consumed by intermediate hops and only match traversals using the same values. Links are keyed by the
+ * request headers too, so links resolved for one principal aren't followed on behalf of another.
+ *
+ * @since 1.5.0
+ */
+public class LinkCache {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param maxSize Maximum number of entries, the least recently used ones are evicted first
+     * @param ttl Maximum time to live of an entry
+     * @param unit Time unit
+     * @since 1.5.0
+     */
+    public LinkCache(final int maxSize, final long ttl, final TimeUnit unit) {
+        this.maxSize = maxSize;
+        this.ttl = unit.toMillis(ttl);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > LinkCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Looks up the final href template
+     *
+     * @param rootUri Root uri
+     * @param rels Followed rels
+     * @param getRequest Whether the traversal ends with a GET request
+     * @param headers Request headers of the traversal
+     * @param templateParameters Template parameters of the traversal
+     * @return Matching, not expired entry or null
+     * @since 1.5.0
+     */
+    public synchronized Entry get(final String rootUri, final List<String> rels, final boolean getRequest,
+                                  final Headers headers, final Map<String, Object> templateParameters) {
+        Key key = new Key(rootUri, rels, getRequest, headers);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.getExpiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+
+            return null;
+        }
+
+        for (Map.Entry<String, Object> binding : entry.getBindings().entrySet()) {
+            if (!Objects.equals(binding.getValue(), templateParameters.get(binding.getKey()))) {
+                return null;
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * Stores the final href template
+     *
+     * @param rootUri Root uri
+     * @param rels Followed rels
+     * @param getRequest Whether the traversal ends with a GET request
+     * @param headers Request headers of the traversal
+     * @param template Unexpanded href template of the final link
+     * @param bindings Template parameters consumed by intermediate hops
+     * @param maxAge Smallest max-age of the hop responses in seconds, negative if unknown, 0 if a hop mustn't
+     *               be stored
+     * @since 1.5.0
+     */
+    public synchronized void put(final String rootUri, final List<String> rels, final boolean getRequest,
+                                 final Headers headers, final String template, final Map<String, Object> bindings,
+                                 final long maxAge) {
+        long timeToLive = maxAge < 0 ? ttl : Math.min(ttl, TimeUnit.SECONDS.toMillis(maxAge));
+        if (timeToLive <= 0) {
+            return;
+        }
+
+        entries.put(
+            new Key(rootUri, rels, getRequest, headers),
+            new Entry(template, Collections.unmodifiableMap(new HashMap<>(bindings)), System.currentTimeMillis() + timeToLive)
+        );
+    }
+
+    /**
+     * Removes the final href template
+     *
+     * @param rootUri Root uri
+     * @param rels Followed rels
+     * @param getRequest Whether the traversal ends with a GET request
+     * @param headers Request headers of the traversal
+     * @since 1.5.0
+     */
+    public synchronized void invalidate(final String rootUri, final List<String> rels, final boolean getRequest,
+                                        final Headers headers) {
+        entries.remove(new Key(rootUri, rels, getRequest, headers));
+    }
+
+    /**
+     * Removes all entries
+     *
+     * @since 1.5.0
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries
+     *
+     * @return Number of entries
+     * @since 1.5.0
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+
+        private final String rootUri;
+
+        private final List<String> rels;
+
+        private final boolean getRequest;
+
+        private final Headers headers;
+
+        Key(final String rootUri, final List<String> rels, final boolean getRequest, final Headers headers) {
+            this.rootUri = rootUri;
+            this.rels = new ArrayList<>(rels);
+            this.getRequest = getRequest;
+            this.headers = headers;
+        }
+    }
+
+    /**
+     * Cached final link of a rel path
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+
+        private final String template;
+
+        private final Map<String, Object> bindings;
+
+        private final long expiresAt;
+    }
+}
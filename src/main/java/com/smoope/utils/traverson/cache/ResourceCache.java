@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.CacheControl;
+import okhttp3.Headers;
+
+/**
+ * In-heap LRU cache of already parsed resources
+ *
+ * Fresh entries are served without any request. Expired entries keep their parsed value together with the
+ * response's validators, so they can be revalidated with a conditional request and reused on 304.
+ *
+ * @since 1.5.0
+ */
+public class ResourceCache<T> {
+
+    private final int maxEntries;
+
+    private final Map<String, Entry<T>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * Constructor with parameters
+     *
+     * @param maxEntries Maximum number of entries, the least recently used ones are evicted first
+     * @since 1.5.0
+     */
+    public ResourceCache(final int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Entry<T>>(16, 0.75f, true) {
+
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > ResourceCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up an entry, fresh or not
+     *
+     * @param key Identity of the request
+     * @return Entry or null
+     * @since 1.5.0
+     */
+    public synchronized Entry<T> get(final String key) {
+        Entry<T> entry = entries.get(key);
+        if (entry != null && entry.isFresh()) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Stores the parsed value if the response allows it. Values the response marks as no-cache are stored
+     * already expired, so they are revalidated before every reuse.
+     *
+     * @param key Identity of the request
+     * @param value Parsed value
+     * @param headers Response headers
+     * @since 1.5.0
+     */
+    public synchronized void put(final String key, final T value, final Headers headers) {
+        CacheControl cacheControl = CacheControl.parse(headers);
+        String etag = headers.get("ETag");
+        String lastModified = headers.get("Last-Modified");
+
+        if (cacheControl.noStore()
+            || (cacheControl.noCache() || cacheControl.maxAgeSeconds() <= 0) && etag == null && lastModified == null) {
+            entries.remove(key);
+
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, etag, lastModified, expiresAt(cacheControl)));
+    }
+
+    /**
+     * Extends the life of an entry after a 304 response
+     *
+     * @param key Identity of the request
+     * @param entry Revalidated entry
+     * @param headers Headers of the 304 response
+     * @return Revalidated value
+     * @since 1.5.0
+     */
+    public synchronized T revalidated(final String key, final Entry<T> entry, final Headers headers) {
+        revalidations.incrementAndGet();
+
+        CacheControl cacheControl = CacheControl.parse(headers);
+        String etag = headers.get("ETag");
+        entries.put(key, new Entry<>(
+            entry.getValue(),
+            etag == null ? entry.getEtag() : etag,
+            entry.getLastModified(),
+            expiresAt(cacheControl)
+        ));
+
+        return entry.getValue();
+    }
+
+    /**
+     * Removes all entries
+     *
+     * @since 1.5.0
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries
+     *
+     * @return Number of entries
+     * @since 1.5.0
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups served by a fresh entry
+     *
+     * @return Number of hits
+     * @since 1.5.0
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups without a fresh entry
+     *
+     * @return Number of misses
+     * @since 1.5.0
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of expired entries reused after a 304 response
+     *
+     * @return Number of revalidations
+     * @since 1.5.0
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    private long expiresAt(final CacheControl cacheControl) {
+        if (cacheControl.noCache()) {
+            return 0;
+        }
+
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Math.max(cacheControl.maxAgeSeconds(), 0));
+    }
+
+    /**
+     * Parsed value along with its validators
+     *
+     * @since 1.5.0
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry<T> {
+
+        private final T value;
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final long expiresAt;
+
+        public boolean isFresh() {
+            return expiresAt > System.currentTimeMillis();
+        }
+
+        public boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
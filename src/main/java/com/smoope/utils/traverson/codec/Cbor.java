@@ -0,0 +1,314 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
+
+/**
+ * Reads and writes CBOR, RFC 7049, as {@link JsonElement} trees
+ *
+ * Data items without a JSON counterpart are converted as the RFC suggests: byte strings become base64url strings,
+ * undefined becomes null, non-string map keys are written as strings and tags are dropped.
+ *
+ * @since 1.5.0
+ */
+final class Cbor {
+
+    private static final int UNSIGNED = 0;
+
+    private static final int NEGATIVE = 1;
+
+    private static final int BYTES = 2;
+
+    private static final int TEXT = 3;
+
+    private static final int ARRAY = 4;
+
+    private static final int MAP = 5;
+
+    private static final int TAG = 6;
+
+    private static final int SIMPLE = 7;
+
+    private static final int INDEFINITE = 31;
+
+    private static final int BREAK = 0xff;
+
+    private static final BigInteger UNSIGNED_LONG = BigInteger.ONE.shiftLeft(64);
+
+    private Cbor() {
+    }
+
+    /**
+     * Reads a single data item
+     *
+     * @param source Source
+     * @return Tree
+     * @throws IOException If the source couldn't be read or isn't well-formed CBOR
+     */
+    static JsonElement read(final BufferedSource source) throws IOException {
+        int initial = source.readByte() & 0xff;
+        if (initial == BREAK) {
+            throw new JsonParseException("Unexpected break");
+        }
+
+        return read(source, initial);
+    }
+
+    private static JsonElement read(final BufferedSource source, final int initial) throws IOException {
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+
+        switch (major) {
+            case UNSIGNED:
+                return new JsonPrimitive(unsigned(argument(source, info)));
+            case NEGATIVE:
+                long value = argument(source, info);
+                return new JsonPrimitive(value >= 0
+                    ? (Number) (-1 - value)
+                    : BigInteger.valueOf(-1).subtract(BigInteger.valueOf(value).add(UNSIGNED_LONG))
+                );
+            case BYTES:
+                return new JsonPrimitive(string(source, major, info).base64Url().replace("=", ""));
+            case TEXT:
+                return new JsonPrimitive(string(source, major, info).utf8());
+            case ARRAY:
+                JsonArray array = new JsonArray();
+                if (info == INDEFINITE) {
+                    for (int next = source.readByte() & 0xff; next != BREAK; next = source.readByte() & 0xff) {
+                        array.add(read(source, next));
+                    }
+                } else {
+                    for (long i = length(source, info); i > 0; i--) {
+                        array.add(read(source));
+                    }
+                }
+                return array;
+            case MAP:
+                JsonObject object = new JsonObject();
+                if (info == INDEFINITE) {
+                    for (int next = source.readByte() & 0xff; next != BREAK; next = source.readByte() & 0xff) {
+                        object.add(key(read(source, next)), read(source));
+                    }
+                } else {
+                    for (long i = length(source, info); i > 0; i--) {
+                        object.add(key(read(source)), read(source));
+                    }
+                }
+                return object;
+            case TAG:
+                argument(source, info);
+                return read(source);
+            default:
+                return simple(source, info);
+        }
+    }
+
+    private static JsonElement simple(final BufferedSource source, final int info) throws IOException {
+        switch (info) {
+            case 20:
+                return new JsonPrimitive(false);
+            case 21:
+                return new JsonPrimitive(true);
+            case 22:
+            case 23:
+                return JsonNull.INSTANCE;
+            case 24:
+                source.readByte();
+                return JsonNull.INSTANCE;
+            case 25:
+                return new JsonPrimitive(half(source.readShort() & 0xffff));
+            case 26:
+                return new JsonPrimitive(Float.intBitsToFloat(source.readInt()));
+            case 27:
+                return new JsonPrimitive(Double.longBitsToDouble(source.readLong()));
+            default:
+                if (info < 20) {
+                    return JsonNull.INSTANCE;
+                }
+                throw new JsonParseException("Malformed simple value " + info);
+        }
+    }
+
+    private static long argument(final BufferedSource source, final int info) throws IOException {
+        if (info < 24) {
+            return info;
+        }
+
+        switch (info) {
+            case 24:
+                return source.readByte() & 0xffL;
+            case 25:
+                return source.readShort() & 0xffffL;
+            case 26:
+                return source.readInt() & 0xffffffffL;
+            case 27:
+                return source.readLong();
+            default:
+                throw new JsonParseException("Malformed additional information " + info);
+        }
+    }
+
+    private static long length(final BufferedSource source, final int info) throws IOException {
+        long length = argument(source, info);
+        if (length < 0) {
+            throw new JsonParseException("Length out of range");
+        }
+
+        return length;
+    }
+
+    private static ByteString string(final BufferedSource source, final int major, final int info) throws IOException {
+        if (info != INDEFINITE) {
+            return source.readByteString(length(source, info));
+        }
+
+        Buffer chunks = new Buffer();
+        for (int next = source.readByte() & 0xff; next != BREAK; next = source.readByte() & 0xff) {
+            if (next >>> 5 != major || (next & 0x1f) == INDEFINITE) {
+                throw new JsonParseException("Malformed chunk of an indefinite length string");
+            }
+            chunks.write(source, length(source, next & 0x1f));
+        }
+
+        return chunks.readByteString();
+    }
+
+    private static String key(final JsonElement key) {
+        return key.isJsonPrimitive() ? key.getAsString() : key.toString();
+    }
+
+    private static Number unsigned(final long value) {
+        return value >= 0 ? (Number) value : BigInteger.valueOf(value).add(UNSIGNED_LONG);
+    }
+
+    private static float half(final int bits) {
+        int exponent = (bits >>> 10) & 0x1f;
+        int mantissa = bits & 0x3ff;
+        float value;
+        if (exponent == 0) {
+            value = mantissa * 0x1p-24f;
+        } else if (exponent == 0x1f) {
+            value = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            value = (mantissa + 1024) * (float) Math.pow(2, exponent - 25);
+        }
+
+        return (bits & 0x8000) == 0 ? value : -value;
+    }
+
+    /**
+     * Writes the tree as a single data item, using the shortest encoding of integers and lengths
+     *
+     * @param tree Tree
+     * @param sink Sink
+     * @throws IOException If the sink couldn't be written
+     */
+    static void write(final JsonElement tree, final BufferedSink sink) throws IOException {
+        if (tree == null || tree.isJsonNull()) {
+            sink.writeByte(SIMPLE << 5 | 22);
+        } else if (tree.isJsonArray()) {
+            JsonArray array = tree.getAsJsonArray();
+            head(sink, ARRAY, array.size());
+            for (JsonElement item : array) {
+                write(item, sink);
+            }
+        } else if (tree.isJsonObject()) {
+            JsonObject object = tree.getAsJsonObject();
+            head(sink, MAP, object.entrySet().size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                ByteString key = ByteString.encodeUtf8(entry.getKey());
+                head(sink, TEXT, key.size());
+                sink.write(key);
+                write(entry.getValue(), sink);
+            }
+        } else {
+            JsonPrimitive primitive = tree.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                sink.writeByte(SIMPLE << 5 | (primitive.getAsBoolean() ? 21 : 20));
+            } else if (primitive.isNumber()) {
+                number(sink, primitive.getAsNumber());
+            } else {
+                ByteString text = ByteString.encodeUtf8(primitive.getAsString());
+                head(sink, TEXT, text.size());
+                sink.write(text);
+            }
+        }
+    }
+
+    private static void number(final BufferedSink sink, final Number number) throws IOException {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            integer(sink, number.longValue());
+            return;
+        }
+
+        BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            decimal = null;
+        }
+
+        if (decimal != null && decimal.signum() == 0) {
+            integer(sink, 0);
+        } else if (decimal != null && decimal.stripTrailingZeros().scale() <= 0
+            && decimal.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0) {
+            integer(sink, decimal.longValueExact());
+        } else {
+            sink.writeByte(SIMPLE << 5 | 27);
+            sink.writeLong(Double.doubleToLongBits(number.doubleValue()));
+        }
+    }
+
+    private static void integer(final BufferedSink sink, final long value) throws IOException {
+        if (value >= 0) {
+            head(sink, UNSIGNED, value);
+        } else {
+            head(sink, NEGATIVE, -1 - value);
+        }
+    }
+
+    private static void head(final BufferedSink sink, final int major, final long argument) throws IOException {
+        int type = major << 5;
+        if (argument < 24) {
+            sink.writeByte(type | (int) argument);
+        } else if (argument <= 0xff) {
+            sink.writeByte(type | 24).writeByte((int) argument);
+        } else if (argument <= 0xffff) {
+            sink.writeByte(type | 25).writeShort((int) argument);
+        } else if (argument <= 0xffffffffL) {
+            sink.writeByte(type | 26).writeInt((int) argument);
+        } else {
+            sink.writeByte(type | 27).writeLong(argument);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.smoope.utils.traverson.TraversonLink;
+import com.smoope.utils.traverson.TraversonResult;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * Binary HAL codec reading and writing CBOR. Resources are decoded to the same tree as their JSON representation,
+ * so they are bound by Gson with the same semantics.
+ *
+ * @since 1.5.0
+ */
+public class CborCodec implements TraversonCodec {
+
+    private static final MediaType HAL_CBOR = MediaType.parse("application/hal+cbor");
+
+    private final Gson serializer;
+
+    /**
+     * Creates the codec with the {@link HalTypeAdapterFactory hand-written HAL adapters}
+     *
+     * @since 1.5.0
+     */
+    public CborCodec() {
+        this(new GsonBuilder().registerTypeAdapterFactory(new HalTypeAdapterFactory()).create());
+    }
+
+    /**
+     * Creates the codec with a custom serializer binding the decoded trees
+     *
+     * @param serializer Serializer
+     * @since 1.5.0
+     */
+    public CborCodec(final Gson serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return HAL_CBOR;
+    }
+
+    @Override
+    public RequestBody encode(final Object value) {
+        Buffer buffer = new Buffer();
+        try {
+            Cbor.write(value instanceof JsonElement ? (JsonElement) value : serializer.toJsonTree(value), buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return RequestBody.create(HAL_CBOR, buffer.readByteString());
+    }
+
+    @Override
+    public <T> T decode(final ResponseBody body, final Type type) throws IOException {
+        return decode(readTree(body), type);
+    }
+
+    @Override
+    public <T> T decode(final JsonElement tree, final Type type) {
+        return serializer.fromJson(tree, type);
+    }
+
+    @Override
+    public JsonElement readTree(final ResponseBody body) throws IOException {
+        return Cbor.read(body.source());
+    }
+
+    @Override
+    public void prime() {
+        serializer.getAdapter(TraversonLink.class);
+        serializer.getAdapter(TraversonResult.class);
+        serializer.getAdapter(new TypeToken<TraversonResult<JsonElement>>() { });
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the items of a single embedded rel, read from the open response body
+ *
+ * The reader is moved to the rel within "_embedded" and each item is bound straight from the stream when it
+ * is requested, so no more than one item is held in memory. The body is closed once the last item is read.
+ *
+ * @since 1.5.0
+ */
+class EmbeddedIterator<T> implements Iterator<T>, Closeable {
+
+    private static final String EMBEDDED = "_embedded";
+
+    private final JsonReader reader;
+
+    private final String rel;
+
+    private final Binder<T> binder;
+
+    private State state = State.INITIAL;
+
+    EmbeddedIterator(final Reader in, final String rel, final Binder<T> binder) {
+        this.reader = new JsonReader(in);
+        this.rel = rel;
+        this.binder = binder;
+    }
+
+    public boolean hasNext() {
+        try {
+            switch (state) {
+                case INITIAL:
+                    state = seek();
+                    return hasNext();
+                case ARRAY:
+                    if (reader.hasNext()) {
+                        return true;
+                    }
+
+                    close();
+                    return false;
+                case SINGLE:
+                    return true;
+                default:
+                    return false;
+            }
+        } catch (IOException | RuntimeException e) {
+            closeQuietly();
+
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+    }
+
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            T item = binder.bind(reader);
+            if (state == State.SINGLE) {
+                close();
+            }
+
+            return item;
+        } catch (IOException | RuntimeException e) {
+            closeQuietly();
+
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+    }
+
+    /**
+     * Closes the response body, the remaining items are skipped
+     *
+     * @throws IOException If the body couldn't be closed
+     * @since 1.5.0
+     */
+    public void close() throws IOException {
+        state = State.CLOSED;
+        reader.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            // the original failure is reported
+        }
+    }
+
+    /**
+     * Moves the reader to the first item of the rel
+     */
+    private State seek() throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (EMBEDDED.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (!rel.equals(reader.nextName())) {
+                        reader.skipValue();
+                    } else if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        reader.beginArray();
+
+                        return State.ARRAY;
+                    } else if (reader.peek() == JsonToken.NULL) {
+                        break;
+                    } else {
+                        return State.SINGLE;
+                    }
+                }
+
+                break;
+            }
+
+            reader.skipValue();
+        }
+        close();
+
+        return State.CLOSED;
+    }
+
+    private enum State {
+        INITIAL, ARRAY, SINGLE, CLOSED
+    }
+
+    /**
+     * Binds the value the reader is positioned at
+     *
+     * @since 1.5.0
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+
+        T bind(JsonReader reader) throws IOException;
+    }
+}
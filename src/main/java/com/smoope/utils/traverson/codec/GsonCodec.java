@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.smoope.utils.traverson.TraversonLink;
+import com.smoope.utils.traverson.TraversonResult;
+import com.smoope.utils.traverson.utils.HopResolver;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+
+/**
+ * JSON codec backed by Gson. Links are extracted by streaming the body up to the requested rel.
+ *
+ * @since 1.5.0
+ */
+public class GsonCodec implements TraversonCodec {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private final Gson serializer;
+
+    private final HopResolver hopResolver = new HopResolver();
+
+    private final JsonParser parser = new JsonParser();
+
+    /**
+     * Creates the codec with the {@link HalTypeAdapterFactory hand-written HAL adapters}
+     *
+     * @since 1.5.0
+     */
+    public GsonCodec() {
+        this(new GsonBuilder().registerTypeAdapterFactory(new HalTypeAdapterFactory()).create());
+    }
+
+    /**
+     * Creates the codec with a custom serializer
+     *
+     * @param serializer Serializer
+     * @since 1.5.0
+     */
+    public GsonCodec(final Gson serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return JSON;
+    }
+
+    @Override
+    public RequestBody encode(final Object value) {
+        return RequestBody.create(JSON, serializer.toJson(value));
+    }
+
+    @Override
+    public <T> T decode(final ResponseBody body, final Type type) throws IOException {
+        return serializer.fromJson(body.charStream(), type);
+    }
+
+    @Override
+    public <T> T decode(final JsonElement tree, final Type type) {
+        return serializer.fromJson(tree, type);
+    }
+
+    @Override
+    public JsonElement readTree(final ResponseBody body) throws IOException {
+        return parser.parse(body.charStream());
+    }
+
+    @Override
+    public TraversonResult<JsonElement> resolve(final ResponseBody body, final String rel) throws IOException {
+        return hopResolver.resolve(body.charStream(), rel);
+    }
+
+    @Override
+    public <T> Iterator<T> decodeEmbedded(final ResponseBody body, final String rel, final Type type) {
+        return new EmbeddedIterator<>(body.charStream(), rel, reader -> serializer.<T>fromJson(reader, type));
+    }
+
+    @Override
+    public void prime() {
+        serializer.getAdapter(TraversonLink.class);
+        serializer.getAdapter(TraversonResult.class);
+        serializer.getAdapter(new TypeToken<TraversonResult<JsonElement>>() { });
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.smoope.utils.traverson.TraversonLink;
+import com.smoope.utils.traverson.TraversonResult;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hand-written streaming type adapters of {@link TraversonResult} and {@link TraversonLink}, binding HAL resources
+ * without reflection. Links given as an array are bound to their first element.
+ *
+ * Register it on a custom {@link Gson} to use the adapters for the links of resources extending
+ * {@link TraversonResult} too.
+ *
+ * @since 1.5.0
+ */
+public class HalTypeAdapterFactory implements TypeAdapterFactory {
+
+    /**
+     * Adapter of a single link
+     */
+    public static final TypeAdapter<TraversonLink> LINK = new LinkAdapter();
+
+    private static final String LINKS = "_links";
+
+    private static final String EMBEDDED = "_embedded";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+        if (type.getRawType() == TraversonLink.class) {
+            return (TypeAdapter<T>) LINK;
+        } else if (type.getRawType() == TraversonResult.class) {
+            return (TypeAdapter<T>) new ResultAdapter<>(gson.getAdapter(TypeToken.get(embeddedType(type.getType()))));
+        }
+
+        return null;
+    }
+
+    private static Type embeddedType(final Type type) {
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class || argument instanceof ParameterizedType
+                || argument instanceof GenericArrayType) {
+                return argument;
+            }
+        }
+
+        return Object.class;
+    }
+
+    private static final class LinkAdapter extends TypeAdapter<TraversonLink> {
+
+        @Override
+        public void write(final JsonWriter out, final TraversonLink link) throws IOException {
+            if (link == null) {
+                out.nullValue();
+
+                return;
+            }
+
+            out.beginObject()
+                .name("href").value(link.getHref())
+                .name("templated").value(link.isTemplated())
+                .endObject();
+        }
+
+        @Override
+        public TraversonLink read(final JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case NULL:
+                    in.nextNull();
+
+                    return null;
+                case BEGIN_ARRAY:
+                    in.beginArray();
+                    TraversonLink first = in.hasNext() ? read(in) : null;
+                    while (in.hasNext()) {
+                        in.skipValue();
+                    }
+                    in.endArray();
+
+                    return first;
+                default:
+                    String href = null;
+                    boolean templated = false;
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String name = in.nextName();
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                        } else if ("href".equals(name)) {
+                            href = in.nextString();
+                        } else if ("templated".equals(name)) {
+                            templated = in.peek() == JsonToken.STRING
+                                ? Boolean.parseBoolean(in.nextString())
+                                : in.nextBoolean();
+                        } else {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
+
+                    return new TraversonLink(href, templated);
+            }
+        }
+    }
+
+    private static final class ResultAdapter<E> extends TypeAdapter<TraversonResult<E>> {
+
+        private final TypeAdapter<E> embeddedAdapter;
+
+        ResultAdapter(final TypeAdapter<E> embeddedAdapter) {
+            this.embeddedAdapter = embeddedAdapter;
+        }
+
+        @Override
+        public void write(final JsonWriter out, final TraversonResult<E> result) throws IOException {
+            if (result == null) {
+                out.nullValue();
+
+                return;
+            }
+
+            out.beginObject();
+            if (result.getLinks() != null) {
+                out.name(LINKS).beginObject();
+                for (Map.Entry<String, TraversonLink> link : result.getLinks().entrySet()) {
+                    LINK.write(out.name(link.getKey()), link.getValue());
+                }
+                out.endObject();
+            }
+            if (!result.getEmbedded().isEmpty()) {
+                out.name(EMBEDDED).beginObject();
+                for (Map.Entry<String, E> embedded : result.getEmbedded().entrySet()) {
+                    embeddedAdapter.write(out.name(embedded.getKey()), embedded.getValue());
+                }
+                out.endObject();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public TraversonResult<E> read(final JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+
+                return null;
+            }
+
+            Map<String, TraversonLink> links = new HashMap<>();
+            Map<String, E> embedded = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (LINKS.equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        links.put(in.nextName(), LINK.read(in));
+                    }
+                    in.endObject();
+                } else if (EMBEDDED.equals(name) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                    embedded = new LinkedHashMap<>();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        embedded.put(in.nextName(), embeddedAdapter.read(in));
+                    }
+                    in.endObject();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new TraversonResult<>(links, embedded);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.smoope.utils.traverson.TraversonResult;
+
+import com.google.gson.JsonElement;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+
+/**
+ * Codec negotiating the representation of responses. The preferred codecs' media types are advertised in the
+ * Accept header ahead of the fallback's, responses are decoded by the codec matching their Content-Type and by
+ * the fallback otherwise. Request bodies are always encoded by the fallback, which every server is assumed to
+ * accept.
+ *
+ * @since 1.5.0
+ */
+public class NegotiatingCodec implements TraversonCodec {
+
+    private final List<TraversonCodec> preferred;
+
+    private final TraversonCodec fallback;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param fallback Codec of request bodies and of responses of any other media type
+     * @param preferred Codecs of responses in order of preference
+     * @since 1.5.0
+     */
+    public NegotiatingCodec(final TraversonCodec fallback, final TraversonCodec... preferred) {
+        this.fallback = fallback;
+        this.preferred = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(preferred)));
+    }
+
+    /**
+     * Returns the value of the Accept header, weighting the media types by their order of preference
+     *
+     * @return Header value
+     * @since 1.5.0
+     */
+    public String getAccept() {
+        StringBuilder accept = new StringBuilder();
+        int weight = 10;
+        for (TraversonCodec codec : preferred) {
+            append(accept, codec.getMediaType(), weight);
+            weight = Math.max(weight - 1, 1);
+        }
+        append(accept, fallback.getMediaType(), weight);
+
+        return accept.toString();
+    }
+
+    private static void append(final StringBuilder accept, final MediaType mediaType, final int weight) {
+        if (accept.length() > 0) {
+            accept.append(", ");
+        }
+        accept.append(mediaType.type()).append('/').append(mediaType.subtype());
+        if (weight < 10) {
+            accept.append(";q=0.").append(weight);
+        }
+    }
+
+    /**
+     * Returns the codec decoding the response body
+     *
+     * @param body Response body
+     * @return Codec matching the Content-Type of the body or the fallback
+     * @since 1.5.0
+     */
+    public TraversonCodec select(final ResponseBody body) {
+        MediaType contentType = body.contentType();
+        if (contentType != null) {
+            for (TraversonCodec codec : preferred) {
+                MediaType mediaType = codec.getMediaType();
+                if (mediaType.type().equals(contentType.type()) && mediaType.subtype().equals(contentType.subtype())) {
+                    return codec;
+                }
+            }
+        }
+
+        return fallback;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return fallback.getMediaType();
+    }
+
+    @Override
+    public RequestBody encode(final Object value) {
+        return fallback.encode(value);
+    }
+
+    @Override
+    public <T> T decode(final ResponseBody body, final Type type) throws IOException {
+        return select(body).decode(body, type);
+    }
+
+    @Override
+    public <T> T decode(final JsonElement tree, final Type type) {
+        return fallback.decode(tree, type);
+    }
+
+    @Override
+    public JsonElement readTree(final ResponseBody body) throws IOException {
+        return select(body).readTree(body);
+    }
+
+    @Override
+    public TraversonResult<JsonElement> resolve(final ResponseBody body, final String rel) throws IOException {
+        return select(body).resolve(body, rel);
+    }
+
+    @Override
+    public <T> Iterator<T> decodeEmbedded(final ResponseBody body, final String rel, final Type type)
+        throws IOException {
+        return select(body).decodeEmbedded(body, rel, type);
+    }
+
+    @Override
+    public void prime() {
+        preferred.forEach(TraversonCodec::prime);
+        fallback.prime();
+    }
+}
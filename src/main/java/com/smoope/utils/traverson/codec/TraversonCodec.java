@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.codec;
+
+import com.smoope.utils.traverson.TraversonResult;
+import com.smoope.utils.traverson.utils.HopResolver;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+
+/**
+ * Encodes request bodies, decodes response bodies and extracts links from them
+ *
+ * Resources travel between hops as a {@link JsonElement} tree, whatever the wire format. Implementations must be
+ * thread-safe. Response bodies are closed by the caller.
+ *
+ * @since 1.5.0
+ */
+public interface TraversonCodec {
+
+    /**
+     * Returns the media type of the encoded bodies
+     *
+     * @return Media type
+     * @since 1.5.0
+     */
+    MediaType getMediaType();
+
+    /**
+     * Encodes the value as a request body
+     *
+     * @param value Value
+     * @return Request body
+     * @since 1.5.0
+     */
+    RequestBody encode(Object value);
+
+    /**
+     * Binds the response body to the type
+     *
+     * @param body Response body
+     * @param type Type
+     * @param <T> Type
+     * @return Value
+     * @throws IOException If the body couldn't be read
+     * @since 1.5.0
+     */
+    <T> T decode(ResponseBody body, Type type) throws IOException;
+
+    /**
+     * Binds the resource tree to the type
+     *
+     * @param tree Resource tree
+     * @param type Type
+     * @param <T> Type
+     * @return Value
+     * @since 1.5.0
+     */
+    <T> T decode(JsonElement tree, Type type);
+
+    /**
+     * Reads the response body as a resource tree
+     *
+     * @param body Response body
+     * @return Resource tree
+     * @throws IOException If the body couldn't be read
+     * @since 1.5.0
+     */
+    JsonElement readTree(ResponseBody body) throws IOException;
+
+    /**
+     * Extracts a single rel of the resource, either a link or an embedded resource. Implementations are
+     * encouraged to stop reading as soon as the rel is found.
+     *
+     * @param body Response body
+     * @param rel Rel
+     * @return Resource containing the rel only
+     * @throws IOException If the body couldn't be read
+     * @since 1.5.0
+     */
+    default TraversonResult<JsonElement> resolve(ResponseBody body, String rel) throws IOException {
+        return new HopResolver().resolve(readTree(body), rel);
+    }
+
+    /**
+     * Lazily binds the items embedded with the rel. The default implementation reads the whole resource first,
+     * implementations are encouraged to bind the items while reading the body.
+     *
+     * @param body Response body
+     * @param rel Rel of the embedded items
+     * @param type Type of the items
+     * @param <T> Type of the items
+     * @return Iterator over the items
+     * @throws IOException If the body couldn't be read
+     * @since 1.5.0
+     */
+    default <T> Iterator<T> decodeEmbedded(ResponseBody body, String rel, Type type) throws IOException {
+        JsonElement items = new HopResolver().resolve(readTree(body), rel).getEmbedded().get(rel);
+        if (items == null || items.isJsonNull()) {
+            return Collections.emptyIterator();
+        } else if (!items.isJsonArray()) {
+            return Collections.<T>singletonList(decode(items, type)).iterator();
+        }
+
+        List<T> values = new ArrayList<>(items.getAsJsonArray().size());
+        for (JsonElement item : (JsonArray) items) {
+            values.add(decode(item, type));
+        }
+
+        return values.iterator();
+    }
+
+    /**
+     * Loads and initialises whatever decoding needs, so the first response isn't slowed down by it
+     *
+     * @since 1.5.0
+     */
+    default void prime() {
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values
+ *
+ * Values are counted in log-linear buckets, four per power of two, so reported percentiles are upper bounds
+ * at most 25% above the actual value.
+ *
+ * @since 1.5.0
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(SUB_BUCKETS * 64);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value
+     *
+     * @param value Value, negative values are recorded as 0
+     * @since 1.5.0
+     */
+    public void record(final long value) {
+        long recorded = Math.max(value, 0);
+
+        buckets.incrementAndGet(bucket(recorded));
+        count.increment();
+        sum.add(recorded);
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values
+     *
+     * @return Count
+     * @since 1.5.0
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of recorded values
+     *
+     * @return Sum
+     * @since 1.5.0
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest recorded value
+     *
+     * @return Maximum
+     * @since 1.5.0
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of recorded values
+     *
+     * @return Mean or 0 if nothing was recorded
+     * @since 1.5.0
+     */
+    public double getMean() {
+        long total = getCount();
+
+        return total == 0 ? 0 : (double) getSum() / total;
+    }
+
+    /**
+     * Estimates a percentile
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Upper bound of the percentile or 0 if nothing was recorded
+     * @since 1.5.0
+     */
+    public long getPercentile(final double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    private static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + (bucket % SUB_BUCKETS) * width;
+
+        return lower + width - 1;
+    }
+}
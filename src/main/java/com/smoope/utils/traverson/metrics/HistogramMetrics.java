@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics implementation keeping counters and latency histograms in memory
+ *
+ * @since 1.5.0
+ */
+public class HistogramMetrics implements TraversonMetrics {
+
+    private final Histogram hopLatency = new Histogram();
+
+    private final Histogram traversalLatency = new Histogram();
+
+    private final Histogram hopsPerTraversal = new Histogram();
+
+    private final Histogram requestLatency = new Histogram();
+
+    private final Histogram decodeTime = new Histogram();
+
+    private final Map<HopSource, LongAdder> hops = new EnumMap<>(HopSource.class);
+
+    private final LongAdder failedTraversals = new LongAdder();
+
+    private final LongAdder bytesSent = new LongAdder();
+
+    private final LongAdder bytesReceived = new LongAdder();
+
+    private final LongAdder linkCacheHits = new LongAdder();
+
+    private final LongAdder linkCacheMisses = new LongAdder();
+
+    public HistogramMetrics() {
+        for (HopSource source : HopSource.values()) {
+            hops.put(source, new LongAdder());
+        }
+    }
+
+    public void hop(final String rel, final HopSource source, final long nanos) {
+        hops.get(source).increment();
+        hopLatency.record(nanos);
+    }
+
+    public void traversal(final int hops, final long nanos, final boolean success) {
+        traversalLatency.record(nanos);
+        hopsPerTraversal.record(hops);
+        if (!success) {
+            failedTraversals.increment();
+        }
+    }
+
+    public void request(final String method, final String host, final int code, final long nanos) {
+        requestLatency.record(nanos);
+    }
+
+    public void bytesSent(final long bytes) {
+        bytesSent.add(bytes);
+    }
+
+    public void bytesReceived(final long bytes) {
+        bytesReceived.add(bytes);
+    }
+
+    public void linkCache(final boolean hit) {
+        (hit ? linkCacheHits : linkCacheMisses).increment();
+    }
+
+    public void decode(final long nanos) {
+        decodeTime.record(nanos);
+    }
+
+    /**
+     * Returns the latency of single hops in nanoseconds
+     *
+     * @return Histogram
+     * @since 1.5.0
+     */
+    public Histogram getHopLatency() {
+        return hopLatency;
+    }
+
+    /**
+     * Returns the latency of whole traversals in nanoseconds
+     *
+     * @return Histogram
+     * @since 1.5.0
+     */
+    public Histogram getTraversalLatency() {
+        return traversalLatency;
+    }
+
+    /**
+     * Returns the number of hops per traversal
+     *
+     * @return Histogram
+     * @since 1.5.0
+     */
+    public Histogram getHopsPerTraversal() {
+        return hopsPerTraversal;
+    }
+
+    /**
+     * Returns the latency of HTTP calls in nanoseconds
+     *
+     * @return Histogram
+     * @since 1.5.0
+     */
+    public Histogram getRequestLatency() {
+        return requestLatency;
+    }
+
+    /**
+     * Returns the time spent deserializing response bodies in nanoseconds
+     *
+     * @return Histogram
+     * @since 1.5.0
+     */
+    public Histogram getDecodeTime() {
+        return decodeTime;
+    }
+
+    /**
+     * Returns the number of hops resolved from the given source
+     *
+     * @param source Source
+     * @return Number of hops
+     * @since 1.5.0
+     */
+    public long getHops(final HopSource source) {
+        return hops.get(source).sum();
+    }
+
+    /**
+     * Returns the number of failed traversals
+     *
+     * @return Number of traversals
+     * @since 1.5.0
+     */
+    public long getFailedTraversals() {
+        return failedTraversals.sum();
+    }
+
+    /**
+     * Returns the number of sent request body bytes
+     *
+     * @return Number of bytes
+     * @since 1.5.0
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * Returns the number of received response body bytes
+     *
+     * @return Number of bytes
+     * @since 1.5.0
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Returns the share of traversals served by the link cache
+     *
+     * @return Ratio between 0 and 1
+     * @since 1.5.0
+     */
+    public double getLinkCacheHitRatio() {
+        return ratio(linkCacheHits.sum(), linkCacheMisses.sum());
+    }
+
+    /**
+     * Returns the share of fetched intermediate resources served by the resource cache, including revalidated ones
+     *
+     * @return Ratio between 0 and 1
+     * @since 1.5.0
+     */
+    public double getResourceCacheHitRatio() {
+        return ratio(getHops(HopSource.CACHE) + getHops(HopSource.REVALIDATED),
+            getHops(HopSource.NETWORK) + getHops(HopSource.COALESCED));
+    }
+
+    private static double ratio(final long hits, final long misses) {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+}
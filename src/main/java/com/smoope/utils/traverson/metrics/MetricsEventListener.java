@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.metrics;
+
+import java.io.IOException;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Response;
+
+/**
+ * Forwards OkHttp's call events to {@link TraversonMetrics}
+ *
+ * @since 1.5.0
+ */
+public class MetricsEventListener extends EventListener {
+
+    private final TraversonMetrics metrics;
+
+    private long start;
+
+    private int code = -1;
+
+    private MetricsEventListener(final TraversonMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a factory of listeners, one per call
+     *
+     * @param metrics Metrics
+     * @return Factory
+     * @since 1.5.0
+     */
+    public static EventListener.Factory factory(final TraversonMetrics metrics) {
+        return call -> new MetricsEventListener(metrics);
+    }
+
+    public void callStart(final Call call) {
+        start = System.nanoTime();
+    }
+
+    public void requestBodyEnd(final Call call, final long byteCount) {
+        metrics.bytesSent(byteCount);
+    }
+
+    public void responseHeadersEnd(final Call call, final Response response) {
+        code = response.code();
+    }
+
+    public void responseBodyEnd(final Call call, final long byteCount) {
+        metrics.bytesReceived(byteCount);
+    }
+
+    public void callEnd(final Call call) {
+        metrics.request(call.request().method(), call.request().url().host(), code, System.nanoTime() - start);
+    }
+
+    public void callFailed(final Call call, final IOException e) {
+        metrics.request(call.request().method(), call.request().url().host(), -1, System.nanoTime() - start);
+    }
+}
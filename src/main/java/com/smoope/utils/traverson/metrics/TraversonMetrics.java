@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.metrics;
+
+/**
+ * Listener of traversal and HTTP events, e.g. to feed a metrics registry
+ *
+ * All methods do nothing by default, so implementations only override the events they are interested in.
+ * Methods are called on the threads doing the work and should return quickly. Durations are in nanoseconds.
+ *
+ * @since 1.5.0
+ */
+public interface TraversonMetrics {
+
+    /**
+     * Called when a rel of a traversal was resolved
+     *
+     * @param rel Rel
+     * @param source Where the resource containing the rel came from
+     * @param nanos Time spent fetching the resource and resolving the rel
+     * @since 1.5.0
+     */
+    default void hop(String rel, HopSource source, long nanos) {
+    }
+
+    /**
+     * Called when a traversal, including its final request, completed
+     *
+     * @param hops Number of resolved rels
+     * @param nanos Duration
+     * @param success Whether the traversal succeeded
+     * @since 1.5.0
+     */
+    default void traversal(int hops, long nanos, boolean success) {
+    }
+
+    /**
+     * Called when an HTTP call completed
+     *
+     * @param method Method
+     * @param host Host
+     * @param code Response code or -1 if the call failed
+     * @param nanos Duration
+     * @since 1.5.0
+     */
+    default void request(String method, String host, int code, long nanos) {
+    }
+
+    /**
+     * Called when a request body was sent
+     *
+     * @param bytes Number of bytes
+     * @since 1.5.0
+     */
+    default void bytesSent(long bytes) {
+    }
+
+    /**
+     * Called when a response body was read
+     *
+     * @param bytes Number of bytes
+     * @since 1.5.0
+     */
+    default void bytesReceived(long bytes) {
+    }
+
+    /**
+     * Called when the cache of resolved rel paths was looked up
+     *
+     * @param hit Whether a final url was found
+     * @since 1.5.0
+     */
+    default void linkCache(boolean hit) {
+    }
+
+    /**
+     * Called when a response body was deserialized
+     *
+     * @param nanos Duration
+     * @since 1.5.0
+     */
+    default void decode(long nanos) {
+    }
+
+    /**
+     * Origins of a resource a rel is resolved in
+     *
+     * @since 1.5.0
+     */
+    enum HopSource {
+        /** Fetched from the server */
+        NETWORK,
+        /** Embedded in the previous resource */
+        EMBEDDED,
+        /** Served from the resource cache without a request */
+        CACHE,
+        /** Served from the resource cache after the server answered 304 */
+        REVALIDATED,
+        /** Shared with a concurrent identical request */
+        COALESCED
+    }
+}
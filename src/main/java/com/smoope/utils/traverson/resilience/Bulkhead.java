@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Limits the number of concurrent calls per key, rejecting calls beyond the limit instead of queueing them
+ *
+ * Only keys with calls in progress are tracked, so keys may be unbounded, e.g. urls.
+ *
+ * @since 1.5.0
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+
+    private final ConcurrentMap<String, Integer> activeCalls = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with parameters
+     *
+     * @param maxConcurrentCalls Maximum number of concurrent calls per key
+     * @since 1.5.0
+     */
+    public Bulkhead(final int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Acquires a permit without waiting
+     *
+     * @param key Key, e.g. host or rel path
+     * @return False if the limit is reached
+     * @since 1.5.0
+     */
+    public boolean tryAcquire(final String key) {
+        boolean[] acquired = new boolean[1];
+        activeCalls.compute(key, (ignored, calls) -> {
+            int current = calls == null ? 0 : calls;
+            if (current >= maxConcurrentCalls) {
+                return calls;
+            }
+            acquired[0] = true;
+
+            return current + 1;
+        });
+
+        return acquired[0];
+    }
+
+    /**
+     * Releases a permit, the key is forgotten once it has no calls in progress
+     *
+     * @param key Key
+     * @since 1.5.0
+     */
+    public void release(final String key) {
+        activeCalls.computeIfPresent(key, (ignored, calls) -> calls > 1 ? calls - 1 : null);
+    }
+
+    /**
+     * Returns the number of calls in progress
+     *
+     * @param key Key
+     * @return Number of calls
+     * @since 1.5.0
+     */
+    public int getActiveCalls(final String key) {
+        return activeCalls.getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns the number of keys with calls in progress
+     *
+     * @return Number of keys
+     * @since 1.5.0
+     */
+    public int getActiveKeys() {
+        return activeCalls.size();
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-host circuit breaker
+ *
+ * Each host starts closed and records the outcome of its most recent calls. Once the failure rate of a full window
+ * reaches the threshold the circuit opens and calls are rejected without touching the network. After the open
+ * duration a few trial calls are let through (half-open); the circuit closes if they all succeed and opens again
+ * on the first failure. The outcome of a call is known once its response headers arrived, failures while reading
+ * the body aren't recorded.
+ *
+ * @since 1.5.0
+ */
+public class CircuitBreaker {
+
+    private final int failureRateThreshold;
+
+    private final int windowSize;
+
+    private final int minimumCalls;
+
+    private final long openDuration;
+
+    private final int halfOpenCalls;
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    private CircuitBreaker(final Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.windowSize);
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+    }
+
+    /**
+     * Asks for permission to call the host
+     *
+     * @param host Host
+     * @return False if the circuit is open
+     * @since 1.5.0
+     */
+    public boolean tryAcquire(final String host) {
+        return circuit(host).tryAcquire();
+    }
+
+    /**
+     * Records a successful call
+     *
+     * @param host Host
+     * @since 1.5.0
+     */
+    public void onSuccess(final String host) {
+        circuit(host).record(true);
+    }
+
+    /**
+     * Records a failed call
+     *
+     * @param host Host
+     * @since 1.5.0
+     */
+    public void onFailure(final String host) {
+        circuit(host).record(false);
+    }
+
+    /**
+     * Gives back the permission of a call which was not sent or whose outcome doesn't matter, e.g. cancelled calls
+     *
+     * @param host Host
+     * @since 1.5.0
+     */
+    public void release(final String host) {
+        circuit(host).release();
+    }
+
+    /**
+     * Returns the state of the host's circuit
+     *
+     * @param host Host
+     * @return State
+     * @since 1.5.0
+     */
+    public State getState(final String host) {
+        return circuit(host).getState();
+    }
+
+    private Circuit circuit(final String host) {
+        return circuits.computeIfAbsent(host, key -> new Circuit());
+    }
+
+    /**
+     * States of a circuit
+     *
+     * @since 1.5.0
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private class Circuit {
+
+        private final boolean[] outcomes = new boolean[windowSize];
+
+        private int calls;
+
+        private int failures;
+
+        private int next;
+
+        private State state = State.CLOSED;
+
+        private long openedAt;
+
+        private int trials;
+
+        private int trialSuccesses;
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDuration) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trials = 0;
+                trialSuccesses = 0;
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (trials >= halfOpenCalls) {
+                    return false;
+                }
+                trials++;
+            }
+
+            return true;
+        }
+
+        synchronized void record(final boolean success) {
+            if (state == State.HALF_OPEN) {
+                if (!success) {
+                    open();
+                } else if (++trialSuccesses >= halfOpenCalls) {
+                    close();
+                }
+
+                return;
+            }
+
+            if (state == State.OPEN) {
+                return;
+            }
+
+            if (calls == windowSize && !outcomes[next]) {
+                failures--;
+            }
+            outcomes[next] = success;
+            next = (next + 1) % windowSize;
+            calls = Math.min(calls + 1, windowSize);
+            if (!success) {
+                failures++;
+            }
+
+            if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+                open();
+            }
+        }
+
+        synchronized void release() {
+            if (state == State.HALF_OPEN && trials > 0) {
+                trials--;
+            }
+        }
+
+        synchronized State getState() {
+            if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDuration) {
+                return State.HALF_OPEN;
+            }
+
+            return state;
+        }
+
+        private void open() {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+
+        private void close() {
+            state = State.CLOSED;
+            calls = 0;
+            failures = 0;
+            next = 0;
+        }
+    }
+
+    /**
+     * Builder implementation
+     *
+     * @since 1.5.0
+     */
+    public static class Builder {
+
+        private int failureRateThreshold;
+
+        private int windowSize;
+
+        private int minimumCalls;
+
+        private long openDuration;
+
+        private int halfOpenCalls;
+
+        /**
+         * Constructor with default values: opens at 50% failures of the last 20 calls, at least 10 calls,
+         * stays open for 30 seconds and lets 3 trial calls through
+         *
+         * @since 1.5.0
+         */
+        public Builder() {
+            this.failureRateThreshold = 50;
+            this.windowSize = 20;
+            this.minimumCalls = 10;
+            this.openDuration = TimeUnit.SECONDS.toMillis(30);
+            this.halfOpenCalls = 3;
+        }
+
+        /**
+         * Sets the failure rate opening the circuit
+         *
+         * @param percent Failure rate in percent
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder failureRateThreshold(final int percent) {
+            this.failureRateThreshold = percent;
+
+            return this;
+        }
+
+        /**
+         * Sets the window of recorded calls
+         *
+         * @param windowSize Number of most recent calls the failure rate is calculated of
+         * @param minimumCalls Number of calls needed before the circuit may open
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder window(final int windowSize, final int minimumCalls) {
+            this.windowSize = windowSize;
+            this.minimumCalls = minimumCalls;
+
+            return this;
+        }
+
+        /**
+         * Sets how long an open circuit rejects calls
+         *
+         * @param duration Duration
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder openDuration(final long duration, final TimeUnit unit) {
+            this.openDuration = unit.toMillis(duration);
+
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls of a half-open circuit
+         *
+         * @param halfOpenCalls Number of trial calls
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder halfOpenCalls(final int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+
+            return this;
+        }
+
+        /**
+         * Builds the circuit breaker
+         *
+         * @return Circuit breaker
+         * @since 1.5.0
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
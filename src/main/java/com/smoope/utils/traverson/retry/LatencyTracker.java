@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.retry;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a sliding window of response times to estimate percentiles
+ *
+ * Estimates are cached and only recomputed every few samples, so asking for them is cheap.
+ *
+ * @since 1.5.0
+ */
+public class LatencyTracker {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples;
+
+    private int count;
+
+    private int next;
+
+    private long recorded;
+
+    private volatile Estimate estimate;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param window Number of most recent samples taken into account
+     * @since 1.5.0
+     */
+    public LatencyTracker(final int window) {
+        this.samples = new long[window];
+    }
+
+    /**
+     * Records a response time
+     *
+     * @param millis Response time in milliseconds
+     * @since 1.5.0
+     */
+    public synchronized void record(final long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        recorded++;
+    }
+
+    /**
+     * Estimates a percentile of the recorded response times
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Response time in milliseconds or -1 if there are too few samples
+     * @since 1.5.0
+     */
+    public long getPercentile(final double percentile) {
+        Estimate cached = estimate;
+        long[] sorted;
+        long at;
+        synchronized (this) {
+            if (count < Math.min(MIN_SAMPLES, samples.length)) {
+                return -1;
+            }
+            if (cached != null && cached.percentile == percentile && recorded - cached.recorded < RECOMPUTE_INTERVAL) {
+                return cached.value;
+            }
+            sorted = Arrays.copyOf(samples, count);
+            at = recorded;
+        }
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        long value = sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        estimate = new Estimate(percentile, at, value);
+
+        return value;
+    }
+
+    private static final class Estimate {
+
+        private final double percentile;
+
+        private final long recorded;
+
+        private final long value;
+
+        private Estimate(final double percentile, final long recorded, final long value) {
+            this.percentile = percentile;
+            this.recorded = recorded;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.retry;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Decides whether and when a failed request is sent again
+ *
+ * Retries use exponential backoff with full jitter, unless the server asks for a specific delay with Retry-After.
+ * Only idempotent requests are retried by default. GET requests of intermediate resources can additionally be
+ * hedged: if the response takes longer than the observed 95th percentile, a duplicate request is sent and the
+ * first response wins. Final requests and downloads aren't hedged.
+ *
+ * @since 1.5.0
+ */
+public class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS"));
+
+    private final int maxAttempts;
+
+    private final long baseDelay;
+
+    private final long maxDelay;
+
+    private final Set<Integer> statuses;
+
+    private final boolean retryNonIdempotent;
+
+    private final boolean hedging;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.statuses = Collections.unmodifiableSet(new HashSet<>(builder.statuses));
+        this.retryNonIdempotent = builder.retryNonIdempotent;
+        this.hedging = builder.hedging;
+    }
+
+    /**
+     * Checks whether the request may be sent again after the given response or failure
+     *
+     * @param request Request
+     * @param response Response, null if the call failed
+     * @param attempt Number of the failed attempt, starting with 1
+     * @return True if the request should be retried
+     * @since 1.5.0
+     */
+    public boolean isRetryable(final Request request, final Response response, final int attempt) {
+        if (attempt >= maxAttempts || !(retryNonIdempotent || IDEMPOTENT_METHODS.contains(request.method()))) {
+            return false;
+        }
+
+        return response == null || (statuses.contains(response.code()) && retryAfter(response) <= maxDelay);
+    }
+
+    /**
+     * Calculates the delay before the next attempt
+     *
+     * @param response Response, null if the call failed
+     * @param attempt Number of the failed attempt, starting with 1
+     * @return Delay in milliseconds
+     * @since 1.5.0
+     */
+    public long getDelay(final Response response, final int attempt) {
+        long retryAfter = response == null ? -1 : retryAfter(response);
+        if (retryAfter >= 0) {
+            return retryAfter;
+        }
+
+        long ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Checks whether GET requests are hedged
+     *
+     * @return True if hedging is enabled
+     * @since 1.5.0
+     */
+    public boolean isHedging() {
+        return hedging;
+    }
+
+    private long retryAfter(final Response response) {
+        String value = response.header("Retry-After");
+        if (value == null) {
+            return -1;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                return Math.max(ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                    - System.currentTimeMillis(), 0);
+            } catch (DateTimeParseException ignored) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Builder implementation
+     *
+     * @since 1.5.0
+     */
+    public static class Builder {
+
+        private int maxAttempts;
+
+        private long baseDelay;
+
+        private long maxDelay;
+
+        private Set<Integer> statuses;
+
+        private boolean retryNonIdempotent;
+
+        private boolean hedging;
+
+        /**
+         * Constructor with default values: 3 attempts, backoff between 100 milliseconds and 5 seconds,
+         * retrying on 429 and 503
+         *
+         * @since 1.5.0
+         */
+        public Builder() {
+            this.maxAttempts = 3;
+            this.baseDelay = 100;
+            this.maxDelay = TimeUnit.SECONDS.toMillis(5);
+            this.statuses = new HashSet<>(Arrays.asList(429, 503));
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first one
+         *
+         * @param maxAttempts Maximum number of attempts
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+
+            return this;
+        }
+
+        /**
+         * Sets the backoff. The delay before the n-th retry is random between 0 and baseDelay * 2^(n-1),
+         * capped at maxDelay. A Retry-After longer than maxDelay stops retrying.
+         *
+         * @param baseDelay Base delay
+         * @param maxDelay Maximum delay
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder backoff(final long baseDelay, final long maxDelay, final TimeUnit unit) {
+            this.baseDelay = unit.toMillis(baseDelay);
+            this.maxDelay = unit.toMillis(maxDelay);
+
+            return this;
+        }
+
+        /**
+         * Sets the response codes which are retried
+         *
+         * @param statuses Response codes
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder retryOn(final Integer... statuses) {
+            this.statuses = new HashSet<>(Arrays.asList(statuses));
+
+            return this;
+        }
+
+        /**
+         * Retries POST requests as well
+         *
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder retryNonIdempotent() {
+            this.retryNonIdempotent = true;
+
+            return this;
+        }
+
+        /**
+         * Enables hedged GET requests of intermediate resources. Only asynchronous traversals are hedged, as
+         * hedging has to enqueue the calls, synchronous ones keep executing on the calling thread.
+         *
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder hedge() {
+            this.hedging = true;
+
+            return this;
+        }
+
+        /**
+         * Builds the policy
+         *
+         * @return Retry policy
+         * @since 1.5.0
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
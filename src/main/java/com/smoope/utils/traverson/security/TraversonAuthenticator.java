@@ -30,4 +30,13 @@ public interface TraversonAuthenticator {
      * @since 1.0.0
      */
     String getCredentials();
+
+    /**
+     * Notifies that the server rejected the credentials
+     *
+     * @param credentials Rejected credentials
+     * @since 1.5.0
+     */
+    default void invalidate(String credentials) {
+    }
 }
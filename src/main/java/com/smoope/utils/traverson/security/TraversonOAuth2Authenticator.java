@@ -0,0 +1,458 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.security;
+
+import com.smoope.utils.traverson.Traverson.TraversonException;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.Credentials;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * OAuth2 bearer token authentication implementation
+ *
+ * Caches the access token and refreshes it in the background shortly before it expires. When a token is
+ * needed right away, concurrent callers wait on a single in-flight refresh.
+ *
+ * @since 1.5.0
+ */
+@Slf4j
+public class TraversonOAuth2Authenticator implements TraversonAuthenticator, AutoCloseable {
+
+    private static final String GRANT_TYPE = "grant_type";
+
+    private static final String REFRESH_TOKEN = "refresh_token";
+
+    private final String tokenUri;
+
+    private final String clientCredentials;
+
+    private final Map<String, String> grant;
+
+    private final long refreshMargin;
+
+    private final OkHttpClient client;
+
+    private final Gson serializer;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicReference<CompletableFuture<Token>> refreshing = new AtomicReference<>();
+
+    private final AtomicBoolean backgroundRefresh = new AtomicBoolean();
+
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong totalLatency = new AtomicLong();
+
+    private final AtomicLong lastLatency = new AtomicLong();
+
+    private volatile Token token;
+
+    private volatile ScheduledFuture<?> scheduledRefresh;
+
+    private TraversonOAuth2Authenticator(final Builder builder) {
+        this.tokenUri = builder.tokenUri;
+        this.clientCredentials = builder.clientId == null ? null : Credentials.basic(builder.clientId, builder.clientSecret);
+        this.grant = new LinkedHashMap<>(builder.grant);
+        this.refreshMargin = builder.refreshMargin;
+        this.client = builder.client == null ? new OkHttpClient() : builder.client;
+        this.serializer = new Gson();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "traverson-oauth2-refresh");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Retrieves the credentials, refreshing the token first if it expired
+     *
+     * @return Credentials
+     * @throws UncheckedIOException If the token couldn't be fetched, Traverson reports the wrapped IOException
+     * @since 1.5.0
+     */
+    public String getCredentials() {
+        Token current = token;
+        long now = System.currentTimeMillis();
+
+        if (current == null || current.getExpiresAt() <= now) {
+            current = await(refresh(current));
+        } else if (current.getExpiresAt() - refreshMargin <= now && backgroundRefresh.compareAndSet(false, true)) {
+            final Token seen = current;
+            scheduler.execute(() -> {
+                try {
+                    refresh(seen);
+                } finally {
+                    backgroundRefresh.set(false);
+                }
+            });
+        }
+
+        return "Bearer " + current.getAccessToken();
+    }
+
+    /**
+     * Drops the token if the server rejected it, so the next call fetches a new one
+     *
+     * @param credentials Rejected credentials
+     * @since 1.5.0
+     */
+    public void invalidate(final String credentials) {
+        Token current = token;
+        if (current != null && credentials.equals("Bearer " + current.getAccessToken())) {
+            token = null;
+        }
+    }
+
+    /**
+     * Stops the background refresh
+     *
+     * @since 1.5.0
+     */
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Returns the number of successful token fetches and refreshes
+     *
+     * @return Number of refreshes
+     * @since 1.5.0
+     */
+    public long getRefreshCount() {
+        return refreshes.get();
+    }
+
+    /**
+     * Returns the number of failed token fetches and refreshes
+     *
+     * @return Number of failures
+     * @since 1.5.0
+     */
+    public long getRefreshFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Returns the latency of the last successful refresh
+     *
+     * @return Latency in milliseconds
+     * @since 1.5.0
+     */
+    public long getLastRefreshLatency() {
+        return lastLatency.get();
+    }
+
+    /**
+     * Returns the average latency of the successful refreshes
+     *
+     * @return Latency in milliseconds
+     * @since 1.5.0
+     */
+    public double getAverageRefreshLatency() {
+        long count = refreshes.get();
+
+        return count == 0 ? 0 : (double) totalLatency.get() / count;
+    }
+
+    /**
+     * Fetches a new token unless another refresh is in flight or already replaced the token the caller has seen
+     *
+     * @param seen Token the caller has seen, null if none
+     * @since 1.5.0
+     */
+    private CompletableFuture<Token> refresh(final Token seen) {
+        while (true) {
+            CompletableFuture<Token> inFlight = refreshing.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            CompletableFuture<Token> created = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, created)) {
+                try {
+                    Token current = token;
+                    if (current != null && (current != seen
+                        || current.getExpiresAt() - refreshMargin > System.currentTimeMillis())) {
+                        created.complete(current);
+
+                        return created;
+                    }
+
+                    long start = System.nanoTime();
+                    Token fetched = fetchToken(current);
+                    long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                    refreshes.incrementAndGet();
+                    totalLatency.addAndGet(latency);
+                    lastLatency.set(latency);
+                    token = fetched;
+                    schedule(fetched);
+                    created.complete(fetched);
+                } catch (IOException | RuntimeException e) {
+                    failures.incrementAndGet();
+                    log.warn("Couldn't refresh OAuth2 token: {}", e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    refreshing.set(null);
+                }
+
+                return created;
+            }
+        }
+    }
+
+    private Token fetchToken(final Token previous) throws IOException {
+        if (previous != null && previous.getRefreshToken() != null) {
+            try {
+                return requestToken(refreshGrant(previous));
+            } catch (TraversonException e) {
+                log.debug("Refresh token rejected, requesting a new token: {}", e.getMessage());
+            }
+        }
+
+        return requestToken(grant);
+    }
+
+    private Map<String, String> refreshGrant(final Token previous) {
+        Map<String, String> refresh = new LinkedHashMap<>();
+        refresh.put(GRANT_TYPE, REFRESH_TOKEN);
+        refresh.put(REFRESH_TOKEN, previous.getRefreshToken());
+
+        return refresh;
+    }
+
+    private Token requestToken(final Map<String, String> parameters) throws IOException {
+        FormBody.Builder body = new FormBody.Builder();
+        parameters.forEach(body::add);
+
+        Request.Builder request = new Request.Builder()
+            .url(tokenUri)
+            .post(body.build());
+        if (clientCredentials != null) {
+            request.header("Authorization", clientCredentials);
+        }
+
+        try (Response response = client.newCall(request.build()).execute()) {
+            if (!response.isSuccessful()) {
+                throw new TraversonException(response.code(), response.body().string(), tokenUri);
+            }
+
+            Token fetched = serializer.fromJson(response.body().charStream(), Token.class);
+            fetched.setExpiresAt(System.currentTimeMillis());
+
+            return fetched;
+        }
+    }
+
+    private void schedule(final Token fetched) {
+        ScheduledFuture<?> previous = scheduledRefresh;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        // a token issued inside the margin is refreshed on demand, scheduling it would refresh back to back
+        long delay = fetched.getExpiresAt() - refreshMargin - System.currentTimeMillis();
+        if (fetched.getExpiresIn() > 0 && delay > 0 && !scheduler.isShutdown()) {
+            scheduledRefresh = scheduler.schedule(() -> refresh(fetched), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Token await(final CompletableFuture<Token> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new UncheckedIOException(e.getCause() instanceof IOException
+                ? (IOException) e.getCause()
+                : new IOException("Couldn't fetch OAuth2 token from " + tokenUri, e.getCause()));
+        }
+    }
+
+    private static class Token {
+
+        @SerializedName("access_token")
+        private String accessToken;
+
+        @SerializedName("refresh_token")
+        private String refreshToken;
+
+        @SerializedName("expires_in")
+        private long expiresIn;
+
+        private transient long expiresAt;
+
+        String getAccessToken() {
+            return accessToken;
+        }
+
+        String getRefreshToken() {
+            return refreshToken;
+        }
+
+        long getExpiresIn() {
+            return expiresIn;
+        }
+
+        long getExpiresAt() {
+            return expiresAt;
+        }
+
+        void setExpiresAt(final long issuedAt) {
+            this.expiresAt = expiresIn > 0 ? issuedAt + TimeUnit.SECONDS.toMillis(expiresIn) : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Builder implementation
+     *
+     * @since 1.5.0
+     */
+    public static class Builder {
+
+        private final String tokenUri;
+
+        private final Map<String, String> grant;
+
+        private String clientId;
+
+        private String clientSecret;
+
+        private long refreshMargin;
+
+        private OkHttpClient client;
+
+        /**
+         * Constructor with parameters
+         *
+         * @param tokenUri Token endpoint's uri
+         * @since 1.5.0
+         */
+        public Builder(final String tokenUri) {
+            this.tokenUri = tokenUri;
+            this.grant = new LinkedHashMap<>();
+            this.grant.put(GRANT_TYPE, "client_credentials");
+            this.refreshMargin = TimeUnit.SECONDS.toMillis(60);
+        }
+
+        /**
+         * Sets the client credentials sent with Basic authentication to the token endpoint
+         *
+         * @param clientId Client id
+         * @param clientSecret Client secret
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder client(final String clientId, final String clientSecret) {
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+
+            return this;
+        }
+
+        /**
+         * Uses the resource owner password grant instead of the client credentials grant
+         *
+         * @param username Username
+         * @param password Password
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder password(final String username, final String password) {
+            this.grant.put(GRANT_TYPE, "password");
+            this.grant.put("username", username);
+            this.grant.put("password", password);
+
+            return this;
+        }
+
+        /**
+         * Sets a parameter of the token request, e.g. scope
+         *
+         * @param name Name
+         * @param value Value
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder parameter(final String name, final String value) {
+            this.grant.put(name, value);
+
+            return this;
+        }
+
+        /**
+         * Sets how long before its expiry the token gets refreshed in the background
+         *
+         * @param margin Margin
+         * @param unit Time unit
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder refreshMargin(final long margin, final TimeUnit unit) {
+            this.refreshMargin = unit.toMillis(margin);
+
+            return this;
+        }
+
+        /**
+         * Sets the HTTP client used for the token endpoint
+         *
+         * @param client HTTP client
+         * @return Builder object
+         * @since 1.5.0
+         */
+        public Builder httpClient(final OkHttpClient client) {
+            this.client = client;
+
+            return this;
+        }
+
+        /**
+         * Builds the authenticator
+         *
+         * @return Authenticator
+         * @since 1.5.0
+         */
+        public TraversonOAuth2Authenticator build() {
+            return new TraversonOAuth2Authenticator(this);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.utils;
+
+import com.smoope.utils.traverson.TraversonLink;
+import com.smoope.utils.traverson.TraversonResult;
+import com.smoope.utils.traverson.codec.HalTypeAdapterFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves a single rel of a HAL resource without binding the whole document
+ *
+ * The returned resource only contains the requested rel, either within its embedded resources or its links.
+ * Embedded resources take precedence over links, like in a fully bound {@link TraversonResult}.
+ *
+ * @since 1.5.0
+ */
+public class HopResolver {
+
+    private static final String LINKS = "_links";
+
+    private static final String EMBEDDED = "_embedded";
+
+    private final JsonParser parser = new JsonParser();
+
+    /**
+     * Scans the document for the rel, stopping as soon as the result can't change anymore
+     *
+     * @param in Document
+     * @param rel Rel to resolve
+     * @return Resource containing the rel only
+     * @throws IOException If the document couldn't be read
+     * @since 1.5.0
+     */
+    public TraversonResult<JsonElement> resolve(final Reader in, final String rel) throws IOException {
+        Map<String, TraversonLink> links = new HashMap<>(1);
+        Map<String, JsonElement> embedded = new HashMap<>(1);
+        boolean embeddedScanned = false;
+
+        JsonReader reader = new JsonReader(in);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (EMBEDDED.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (rel.equals(reader.nextName())) {
+                        embedded.put(rel, parser.parse(reader));
+
+                        return new TraversonResult<>(links, embedded);
+                    }
+                    reader.skipValue();
+                }
+                reader.endObject();
+                embeddedScanned = true;
+            } else if (LINKS.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (rel.equals(reader.nextName())) {
+                        links.put(rel, HalTypeAdapterFactory.LINK.read(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                    if (!links.isEmpty() && embeddedScanned) {
+                        return new TraversonResult<>(links, embedded);
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+
+            if (!links.isEmpty() && embeddedScanned) {
+                break;
+            }
+        }
+
+        return new TraversonResult<>(links, embedded);
+    }
+
+    /**
+     * Looks up the rel in an already parsed resource
+     *
+     * @param resource Resource
+     * @param rel Rel to resolve
+     * @return Resource containing the rel only
+     * @since 1.5.0
+     */
+    public TraversonResult<JsonElement> resolve(final JsonElement resource, final String rel) {
+        Map<String, TraversonLink> links = new HashMap<>(1);
+        Map<String, JsonElement> embedded = new HashMap<>(1);
+
+        if (resource.isJsonObject()) {
+            JsonElement element = member(resource.getAsJsonObject(), EMBEDDED, rel);
+            if (element != null) {
+                embedded.put(rel, element);
+            }
+
+            element = member(resource.getAsJsonObject(), LINKS, rel);
+            if (element != null) {
+                links.put(rel, HalTypeAdapterFactory.LINK.fromJsonTree(element));
+            }
+        }
+
+        return new TraversonResult<>(links, embedded);
+    }
+
+    private JsonElement member(final JsonObject resource, final String section, final String rel) {
+        JsonElement members = resource.get(section);
+
+        return members != null && members.isJsonObject() ? members.getAsJsonObject().get(rel) : null;
+    }
+}
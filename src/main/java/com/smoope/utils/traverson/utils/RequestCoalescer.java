@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 smoope GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smoope.utils.traverson.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical requests share a single in-flight call
+ *
+ * @since 1.5.0
+ */
+public class RequestCoalescer<T> {
+
+    private final ConcurrentMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+
+    private final AtomicLong merged = new AtomicLong();
+
+    /**
+     * Joins the in-flight call with the same key or starts a new one
+     *
+     * @param key Identity of the request
+     * @param call Starts the call
+     * @return Future of the shared result
+     * @since 1.5.0
+     */
+    public CompletableFuture<T> execute(final String key, final Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            merged.incrementAndGet();
+
+            return existing.thenApply(Function.identity());
+        }
+
+        calls.incrementAndGet();
+        try {
+            call.get().whenComplete((result, e) -> {
+                inFlight.remove(key, created);
+                if (e == null) {
+                    created.complete(result);
+                } else {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+
+        return created.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns the number of calls actually made
+     *
+     * @return Number of calls
+     * @since 1.5.0
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Returns the number of requests which joined an in-flight call instead of making their own
+     *
+     * @return Number of merged requests
+     * @since 1.5.0
+     */
+    public long getMerged() {
+        return merged.get();
+    }
+
+    /**
+     * Returns the share of requests which joined an in-flight call
+     *
+     * @return Ratio between 0 and 1
+     * @since 1.5.0
+     */
+    public double getMergeRatio() {
+        long total = calls.get() + merged.get();
+
+        return total == 0 ? 0 : (double) merged.get() / total;
+    }
+}
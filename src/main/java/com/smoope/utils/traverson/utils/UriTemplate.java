@@ -20,44 +20,93 @@ import com.damnhandy.uri.template.MalformedUriTemplateException;
 import com.damnhandy.uri.template.VariableExpansionException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Defines hypermedia API's templated link
  *
+ * Instances are immutable and shared: parsed templates are cached by their raw href,
+ * so each distinct template is parsed once per process. The parsed template keeps the values
+ * of the expansion in progress, so expansions of the same template lock it just for the expansion.
+ * The cache holds up to 1024 templates; when it is full an arbitrary template is evicted,
+ * which only matters for APIs generating an unbounded number of distinct templates.
+ *
  * @since 1.0.0
  */
-public class UriTemplate {
+public final class UriTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+
+    private static final ConcurrentMap<String, UriTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String uri;
 
-    private String uri;
+    private final com.damnhandy.uri.template.UriTemplate template;
 
-    private com.damnhandy.uri.template.UriTemplate template;
+    private final List<String> parameterNames;
 
     private UriTemplate(final String uri) {
         this.uri = uri;
+
+        this.template = parse(uri);
+        this.parameterNames = template == null
+            ? Collections.<String>emptyList()
+            : Collections.unmodifiableList(Arrays.asList(template.getVariables()));
+    }
+
+    private static com.damnhandy.uri.template.UriTemplate parse(final String uri) {
         try {
-            this.template = com.damnhandy.uri.template.UriTemplate.buildFromTemplate(uri).build();
-        } catch (MalformedUriTemplateException e) {}
+            return com.damnhandy.uri.template.UriTemplate.buildFromTemplate(uri).build();
+        } catch (MalformedUriTemplateException e) {
+            return null;
+        }
     }
 
     public static UriTemplate fromUri(final String uri) {
         if (uri.isEmpty())
             return null;
 
-        return new UriTemplate(uri);
+        UriTemplate template = TEMPLATES.get(uri);
+        if (template == null) {
+            if (TEMPLATES.size() >= MAX_CACHED_TEMPLATES) {
+                Iterator<String> eldest = TEMPLATES.keySet().iterator();
+                if (eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+
+            template = new UriTemplate(uri);
+            UriTemplate existing = TEMPLATES.putIfAbsent(uri, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+
+        return template;
     }
 
-    public UriTemplate expand(Map<String, Object> templateParameters) {
-        try {
-            this.uri = template.expand(templateParameters);
-        } catch (VariableExpansionException e) {}
+    public String expand(Map<String, Object> templateParameters) {
+        if (template == null) {
+            return uri;
+        }
 
-        return this;
+        try {
+            synchronized (template) {
+                return template.expand(templateParameters);
+            }
+        } catch (VariableExpansionException e) {
+            return uri;
+        }
     }
 
-    public UriTemplate expand(String... templateParameters) {
+    public String expand(String... templateParameters) {
         int size = templateParameters.length;
         Map<String, Object> templatesParametersMap = new HashMap<String, Object>(size / 2);
 
@@ -69,11 +118,11 @@ public class UriTemplate {
     }
 
     public boolean hasParameters() {
-        return template.getVariables().length > 0;
+        return !parameterNames.isEmpty();
     }
 
     public List<String> getParameterNames() {
-        return Arrays.asList(template.getVariables());
+        return parameterNames;
     }
 
     public String toString() {
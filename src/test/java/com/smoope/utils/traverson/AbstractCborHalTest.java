@@ -0,0 +1,55 @@
+package com.smoope.utils.traverson;
+
+import com.smoope.utils.traverson.codec.CborCodec;
+
+import com.google.gson.JsonParser;
+
+import org.junit.Before;
+
+import java.io.IOException;
+
+import okhttp3.mockwebserver.MockResponse;
+import okio.Buffer;
+
+public class AbstractCborHalTest extends AbstractTraversonTest {
+
+    protected static final String CBOR_CONTENT_TYPE = "application/hal+cbor";
+
+    protected static final CborCodec CBOR = new CborCodec();
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        traverson = new Traverson.Builder(baseUrl)
+            .accept(CBOR)
+            .build();
+    }
+
+    @Override
+    protected MockResponse setHalBody(final MockResponse response, final String content) {
+        return setCborBody(response, content);
+    }
+
+    /**
+     * Client of the JSON test suites run against CBOR, encoding requests and decoding responses as CBOR
+     */
+    static Traverson cborTraverson(final String baseUrl) {
+        return new Traverson.Builder(baseUrl)
+            .codec(CBOR)
+            .build();
+    }
+
+    static MockResponse setCborBody(final MockResponse response, final String content) {
+        Buffer body = new Buffer();
+        try {
+            CBOR.encode(new JsonParser().parse(content)).writeTo(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return response
+            .addHeader("Content-Type", CBOR_CONTENT_TYPE)
+            .setBody(body);
+    }
+}
@@ -127,11 +127,19 @@ public abstract class AbstractTraversonTest {
         return response.replace("http://old-republic.com", baseUrl);
     }
 
+    protected MockResponse setHalBody(final MockResponse response, final String content) {
+        return response
+            .addHeader("Content-Type", DEFAULT_CONTENT_TYPE)
+            .setBody(content);
+    }
+
     private MockResponse getResponse(final int code, final String name) {
-        return new MockResponse()
+        MockResponse response = new MockResponse()
             .setResponseCode(code)
-            .addHeader("Content-Type", DEFAULT_CONTENT_TYPE)
-            .addHeader("Cache-Control", "no-store, max-age=86400")
-            .setBody(getResponseContent(name));
+            .addHeader("Cache-Control", "no-store, max-age=86400");
+
+        return name.endsWith(".hal")
+            ? setHalBody(response, getResponseContent(name))
+            : response.addHeader("Content-Type", DEFAULT_CONTENT_TYPE).setBody(getResponseContent(name));
     }
 }
@@ -0,0 +1,68 @@
+package com.smoope.utils.traverson;
+
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.codec.CborCodec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ByteString;
+
+public class CborCodecTest {
+
+    private final CborCodec codec = new CborCodec();
+
+    private JsonElement read(final String hex) throws IOException {
+        return codec.readTree(ResponseBody.create(codec.getMediaType(), ByteString.decodeHex(hex).toByteArray()));
+    }
+
+    @Test
+    public void roundTripsFixtures() throws Exception {
+        File[] fixtures = new File(getClass().getResource("/responses").toURI()).listFiles((dir, name) -> name.endsWith(".hal.json"));
+
+        assertThat(fixtures.length > 0, CoreMatchers.is(true));
+        for (File fixture : fixtures) {
+            JsonElement json = new JsonParser().parse(new String(Files.readAllBytes(fixture.toPath()), StandardCharsets.UTF_8));
+            Buffer body = new Buffer();
+            codec.encode(json).writeTo(body);
+
+            assertThat(fixture.getName(), codec.readTree(ResponseBody.create(codec.getMediaType(), body.size(), body)),
+                CoreMatchers.is(json));
+        }
+    }
+
+    @Test
+    public void readsNumbers() throws IOException {
+        assertThat(read("3903e7").getAsLong(), CoreMatchers.is(-1000L));
+        assertThat(read("1bffffffffffffffff").getAsString(), CoreMatchers.is("18446744073709551615"));
+        assertThat(read("f93e00").getAsDouble(), CoreMatchers.is(1.5));
+        assertThat(read("f97c00").getAsDouble(), CoreMatchers.is(Double.POSITIVE_INFINITY));
+        assertThat(read("fb3ff199999999999a").getAsDouble(), CoreMatchers.is(1.1));
+    }
+
+    @Test
+    public void readsIndefiniteLengthItems() throws IOException {
+        assertThat(read("7f657374726561646d696e67ff").getAsString(), CoreMatchers.is("streaming"));
+        assertThat(read("bf61610161629f0203ffff"), CoreMatchers.is(new JsonParser().parse("{\"a\":1,\"b\":[2,3]}")));
+    }
+
+    @Test
+    public void convertsItemsWithoutJsonCounterpart() throws IOException {
+        assertThat(read("c074323031332d30332d32315432303a30343a30305a").getAsString(), CoreMatchers.is("2013-03-21T20:04:00Z"));
+        assertThat(read("4401020304").getAsString(), CoreMatchers.is("AQIDBA"));
+        assertThat(read("f7").isJsonNull(), CoreMatchers.is(true));
+        assertThat(read("a201020304"), CoreMatchers.is(new JsonParser().parse("{\"1\":2,\"3\":4}")));
+    }
+}
@@ -0,0 +1,70 @@
+package com.smoope.utils.traverson;
+
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.codec.HalTypeAdapterFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class HalTypeAdapterFactoryTest {
+
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new HalTypeAdapterFactory()).create();
+
+    @Test
+    public void readsLinks() {
+        TraversonLink link = gson.fromJson("{\"href\":\"/jedi{?page}\",\"templated\":\"true\",\"title\":\"Jedi\"}",
+            TraversonLink.class);
+
+        assertThat(link.getHref(), CoreMatchers.is("/jedi{?page}"));
+        assertThat(link.isTemplated(), CoreMatchers.is(true));
+
+        link = gson.fromJson("[{\"href\":\"/first\"},{\"href\":\"/second\"}]", TraversonLink.class);
+
+        assertThat(link.getHref(), CoreMatchers.is("/first"));
+        assertThat(link.isTemplated(), CoreMatchers.is(false));
+    }
+
+    @Test
+    public void readsResources() {
+        TraversonResult<List<Map<String, Object>>> result = gson.fromJson(
+            "{\"id\":1,\"_links\":{\"self\":{\"href\":\"/jedi\"},\"next\":[{\"href\":\"/jedi?page=1\"}]},"
+                + "\"_embedded\":{\"jedi\":[{\"name\":\"Yoda\"}]}}",
+            new TypeToken<TraversonResult<List<Map<String, Object>>>>() { }.getType()
+        );
+
+        assertThat(result.getLinkForSelf().getHref(), CoreMatchers.is("/jedi"));
+        assertThat(result.getLinkForRel("next").getHref(), CoreMatchers.is("/jedi?page=1"));
+        assertThat(result.getEmbedded().get("jedi").get(0).get("name"), CoreMatchers.is((Object) "Yoda"));
+    }
+
+    @Test
+    public void writesResources() {
+        TraversonResult<JsonElement> result = gson.fromJson(
+            "{\"_links\":{\"self\":{\"href\":\"/jedi\"}},\"_embedded\":{\"jedi\":{\"name\":\"Yoda\"}}}",
+            new TypeToken<TraversonResult<JsonElement>>() { }.getType()
+        );
+
+        assertThat(gson.toJson(result, new TypeToken<TraversonResult<JsonElement>>() { }.getType()), CoreMatchers.is(
+            "{\"_links\":{\"self\":{\"href\":\"/jedi\",\"templated\":false}},\"_embedded\":{\"jedi\":{\"name\":\"Yoda\"}}}"
+        ));
+    }
+
+    @Test
+    public void bindsLinksOfSubclasses() {
+        AbstractTraversonTest.ItemResult item = gson.fromJson(
+            "{\"id\":\"1\",\"_links\":{\"lightSaber\":[{\"href\":\"/saber\"}]}}", AbstractTraversonTest.ItemResult.class
+        );
+
+        assertThat(item.getId(), CoreMatchers.is("1"));
+        assertThat(item.getLinkForRel("lightSaber").getHref(), CoreMatchers.is("/saber"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.smoope.utils.traverson;
+
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.utils.HopResolver;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+public class HopResolverTest {
+
+    private final HopResolver resolver = new HopResolver();
+
+    @Test
+    public void resolvesLink() throws IOException {
+        TraversonResult<JsonElement> result = resolver.resolve(new StringReader(
+            "{\"_links\":{\"self\":{\"href\":\"/\"},\"jedi\":{\"href\":\"/jedi{?page}\",\"templated\":true}},\"page\":{}}"
+        ), "jedi");
+
+        assertThat(result.getLinkForRel("jedi").getHref(), CoreMatchers.is("/jedi{?page}"));
+        assertThat(result.getLinkForRel("jedi").isTemplated(), CoreMatchers.is(true));
+        assertThat(result.getLinkForSelf(), CoreMatchers.nullValue());
+        assertThat(result.getEmbedded().isEmpty(), CoreMatchers.is(true));
+    }
+
+    @Test
+    public void prefersEmbeddedAfterLinks() throws IOException {
+        TraversonResult<JsonElement> result = resolver.resolve(new StringReader(
+            "{\"_links\":{\"jedi\":{\"href\":\"/jedi\"}},\"_embedded\":{\"sith\":[],\"jedi\":{\"id\":1}}}"
+        ), "jedi");
+
+        assertThat(result.getEmbedded().get("jedi").getAsJsonObject().get("id").getAsInt(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void stopsReadingOnceResolved() throws IOException {
+        TraversonResult<JsonElement> result = resolver.resolve(new StringReader(
+            "{\"_embedded\":{\"jedi\":{\"id\":1}}, this is never read"
+        ), "jedi");
+
+        assertThat(result.getEmbedded().containsKey("jedi"), CoreMatchers.is(true));
+
+        result = resolver.resolve(new StringReader(
+            "{\"_embedded\":{},\"_links\":{\"jedi\":{\"href\":\"/jedi\"}, this is never read"
+        ), "jedi");
+
+        assertThat(result.getLinkForRel("jedi").getHref(), CoreMatchers.is("/jedi"));
+    }
+
+    @Test
+    public void resolvesFromTree() {
+        JsonElement resource = new JsonParser().parse(
+            "{\"_links\":{\"lightSaber\":[{\"href\":\"/saber\"}]},\"_embedded\":{\"padawan\":{\"id\":2}}}"
+        );
+
+        assertThat(resolver.resolve(resource, "lightSaber").getLinkForRel("lightSaber").getHref(), CoreMatchers.is("/saber"));
+        assertThat(resolver.resolve(resource, "padawan").getEmbedded().containsKey("padawan"), CoreMatchers.is(true));
+        assertThat(resolver.resolve(resource, "master").getLinkForRel("master"), CoreMatchers.nullValue());
+    }
+}
@@ -0,0 +1,95 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonCborHalNegotiationTest extends AbstractCborHalTest {
+
+    private static final String JSON_ITEM = "{\"id\":\"1\",\"name\":\"Yoda\",\"_links\":{\"self\":{\"href\":\"/api/jedi/1\"}}}";
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi") && request.getMethod().equals("GET")) {
+                    return generateResponse(COLLECTION);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else if (request.getPath().equals("/api/jedi/1")) {
+                    return new MockResponse()
+                        .addHeader("Content-Type", "application/hal+json; charset=utf-8")
+                        .setBody(JSON_ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void prefersCbor() throws IOException, InterruptedException {
+        traverson.follow().get(TraversonResult.class);
+
+        assertThat(server.takeRequest().getHeader("Accept"), CoreMatchers.is("application/hal+cbor, application/json;q=0.9"));
+    }
+
+    @Test
+    public void keepsExplicitAccept() throws IOException, InterruptedException {
+        traverson = new Traverson.Builder(baseUrl)
+            .defaultHeader("accept", "application/hal+cbor")
+            .accept(CBOR)
+            .build();
+
+        traverson.follow().get(TraversonResult.class);
+
+        assertThat(server.takeRequest().getHeader("Accept"), CoreMatchers.is("application/hal+cbor"));
+    }
+
+    @Test
+    public void fallsBackToJson() throws IOException {
+        ItemResult result = traverson.followUri(baseUrl + "/jedi/1").get(ItemResult.class);
+
+        assertThat(result.getName(), CoreMatchers.is("Yoda"));
+        assertThat(result.getLinkForSelf().getHref(), CoreMatchers.is("/api/jedi/1"));
+    }
+
+    @Test
+    public void encodesRequestsWithFallback() throws IOException, InterruptedException {
+        ItemResult result = traverson.follow("jedi").put(new ItemResult(), ItemResult.class);
+
+        server.takeRequest();
+        assertThat(server.takeRequest().getHeader("Content-Type"), CoreMatchers.startsWith("application/json"));
+        assertThat(result.getName(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void streamsEmbeddedItems() throws IOException {
+        try (Stream<ItemResult> jedi = traverson.follow("jedi").streamEmbedded("jedi", ItemResult.class)) {
+            List<String> names = jedi.map(ItemResult::getName).collect(Collectors.toList());
+
+            assertThat(names.size(), CoreMatchers.is(2));
+            assertThat(names.get(0), CoreMatchers.is("Luke Skywalker"));
+        }
+    }
+}
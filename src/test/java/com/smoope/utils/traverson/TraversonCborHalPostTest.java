@@ -0,0 +1,21 @@
+package com.smoope.utils.traverson;
+
+import org.junit.Before;
+
+import okhttp3.mockwebserver.MockResponse;
+
+public class TraversonCborHalPostTest extends TraversonJsonHalPostTest {
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+
+        traverson = AbstractCborHalTest.cborTraverson(baseUrl);
+    }
+
+    @Override
+    protected MockResponse setHalBody(final MockResponse response, final String content) {
+        return AbstractCborHalTest.setCborBody(response, content);
+    }
+}
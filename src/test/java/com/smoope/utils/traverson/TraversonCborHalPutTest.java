@@ -0,0 +1,53 @@
+package com.smoope.utils.traverson;
+
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonCborHalPutTest extends TraversonJsonHalPutTest {
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+
+        traverson = AbstractCborHalTest.cborTraverson(baseUrl);
+    }
+
+    @Override
+    protected MockResponse setHalBody(final MockResponse response, final String content) {
+        return AbstractCborHalTest.setCborBody(response, content);
+    }
+
+    @Test
+    public void encodesBodiesAsCbor() throws IOException, InterruptedException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return generateResponse(Response.ITEM);
+            }
+        });
+
+        ItemResult item = new ItemResult();
+        item.setName("Yoda");
+        traverson.followUri(baseUrl).put(item, ItemResult.class);
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader("Content-Type"), CoreMatchers.is(AbstractCborHalTest.CBOR_CONTENT_TYPE));
+        assertThat(
+            AbstractCborHalTest.CBOR.readTree(ResponseBody.create(MediaType.parse(AbstractCborHalTest.CBOR_CONTENT_TYPE),
+                request.getBodySize(), request.getBody())).getAsJsonObject().get("name").getAsString(),
+            CoreMatchers.is("Yoda")
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT_WITH_EMBEDDED;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._401;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.security.TraversonBasicAuthenticator;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalAsyncTest extends AbstractJsonHalTest {
+
+    @Test
+    public void getMulipleRelationWithItem() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    requests++;
+                    return generateResponse(ROOT);
+                } else if (request.getPath().contains("/jedi") && request.getMethod().equals("GET")) {
+                    requests++;
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        ItemResult result = traverson
+            .follow("jedi", "self")
+            .getAsync(ItemResult.class)
+            .get();
+
+        assertThat(requests, CoreMatchers.is(3));
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(result.getLinkForRel("lightSaber"), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void getEmbeddedResource() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    requests++;
+                    return generateResponse(ROOT_WITH_EMBEDDED);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        ItemResult result = traverson
+            .follow("jedi")
+            .getAsync(ItemResult.class)
+            .get();
+
+        assertThat(requests, CoreMatchers.is(1));
+        assertThat(result.getName(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void getMissingRelation() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return request.getPath().equals("/api") ? generateResponse(ROOT) : generateResponse(_404);
+            }
+        });
+
+        try {
+            traverson
+                .follow("sith")
+                .getAsync(ItemResult.class)
+                .get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), CoreMatchers.instanceOf(Traverson.TraversonException.class));
+            assertThat(((Traverson.TraversonException) e.getCause()).getCode(), CoreMatchers.is(404));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a TraversonException");
+    }
+
+    @Test
+    public void postPutAndDelete() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().contains("/jedi") && request.getMethod().equals("POST")) {
+                    requests++;
+                    return generateResponse(Response._201);
+                } else if (request.getPath().contains("/jedi") && request.getMethod().equals("PUT")) {
+                    requests++;
+                    return generateResponse(ITEM);
+                } else if (request.getPath().contains("/jedi") && request.getMethod().equals("DELETE")) {
+                    requests++;
+                    return generateResponse(Response._204);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        okhttp3.Response created = traverson.follow("jedi").postAsync(new Object()).get();
+        ItemResult updated = traverson.follow("jedi").putAsync(new Object(), ItemResult.class).get();
+        traverson.follow("jedi").deleteAsync().get();
+
+        assertThat(requests, CoreMatchers.is(3));
+        assertThat(created.header("Location"), CoreMatchers.notNullValue());
+        assertThat(updated.getId(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void failsOnRepeatedUnauthorized() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return generateResponse(_401);
+            }
+        });
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(new TraversonBasicAuthenticator("luke", "skywalker"))
+            .build();
+
+        try {
+            traverson
+                .follow("jedi")
+                .getAsync(ItemResult.class)
+                .get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), CoreMatchers.instanceOf(Traverson.TraversonException.class));
+            assertThat(((Traverson.TraversonException) e.getCause()).getCode(), CoreMatchers.is(401));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a TraversonException");
+    }
+
+    @Test
+    public void customExecutor() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return request.getPath().equals("/api") ? generateResponse(ROOT) : generateResponse(ITEM);
+            }
+        });
+
+        final AtomicInteger tasks = new AtomicInteger();
+        final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            tasks.incrementAndGet();
+            return new Thread(runnable);
+        });
+        traverson = new Traverson.Builder(baseUrl)
+            .executor(executor)
+            .build();
+
+        ItemResult result = traverson.follow("jedi").getAsync(ItemResult.class).get();
+
+        executor.shutdown();
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(tasks.get() > 0, CoreMatchers.is(true));
+    }
+}
@@ -0,0 +1,89 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalCoalescingTest extends AbstractJsonHalTest {
+
+    private final AtomicInteger rootRequests = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        traverson = new Traverson.Builder(baseUrl)
+            .coalesceRequests()
+            .maxRequestsPerHost(20)
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    rootRequests.incrementAndGet();
+                    Thread.sleep(300);
+
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void sharesInFlightRequests() throws Exception {
+        List<CompletableFuture<ItemResult>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(traverson.follow("jedi").getAsync(ItemResult.class));
+        }
+        for (CompletableFuture<ItemResult> result : results) {
+            assertThat(result.get().getId(), CoreMatchers.notNullValue());
+        }
+
+        assertThat(rootRequests.get(), CoreMatchers.is(1));
+        assertThat(traverson.getRequestCoalescer().getCalls(), CoreMatchers.is(1L));
+        assertThat(traverson.getRequestCoalescer().getMerged(), CoreMatchers.is(9L));
+    }
+
+    @Test
+    public void keepsDistinctCredentialsApart() throws Exception {
+        CompletableFuture<ItemResult> luke = traverson.follow("jedi")
+            .withHeader("Authorization", "luke")
+            .getAsync(ItemResult.class);
+        CompletableFuture<ItemResult> yoda = traverson.follow("jedi")
+            .withHeader("Authorization", "yoda")
+            .getAsync(ItemResult.class);
+
+        luke.get();
+        yoda.get();
+
+        assertThat(rootRequests.get(), CoreMatchers.is(2));
+        assertThat(traverson.getRequestCoalescer().getMerged(), CoreMatchers.is(0L));
+    }
+
+    @Test
+    public void doesNotCacheCompletedRequests() throws Exception {
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(rootRequests.get(), CoreMatchers.is(2));
+    }
+}
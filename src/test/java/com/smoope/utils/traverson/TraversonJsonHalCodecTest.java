@@ -0,0 +1,132 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.codec.GsonCodec;
+import com.smoope.utils.traverson.codec.TraversonCodec;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalCodecTest extends AbstractJsonHalTest {
+
+    private CountingCodec codec;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        codec = new CountingCodec();
+        traverson = new Traverson.Builder(baseUrl)
+            .codec(codec)
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/council")) {
+                    return new MockResponse()
+                        .setHeader("Content-Type", "application/hal+json; charset=utf-8")
+                        .setBody("{\"id\":1,\"title\":\"Yoda\",\"_links\":{\"self\":{\"href\":\"/api/council\"},"
+                            + "\"jedi\":[{\"href\":\"/api/jedi/1\"},{\"href\":\"/api/jedi/2\"}]}}");
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void decodesWithCodec() throws IOException {
+        ItemResult result = traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(codec.resolved.get(), CoreMatchers.is(2));
+        assertThat(codec.decoded.get(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void encodesWithCodec() throws IOException, InterruptedException {
+        traverson.follow("jedi").put(new Object(), ItemResult.class);
+
+        server.takeRequest();
+        assertThat(server.takeRequest().getHeader("Content-Type"), CoreMatchers.startsWith("application/vnd.jedi+json"));
+        assertThat(codec.encoded.get(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void registersHalAdaptersOnCustomSerializer() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .serializer(new GsonBuilder()
+                .setFieldNamingStrategy(field -> field.getName().equals("name") ? "title" : field.getName())
+                .create())
+            .build();
+
+        ItemResult result = traverson.followUri(baseUrl + "/council").get(ItemResult.class);
+
+        assertThat(result.getName(), CoreMatchers.is("Yoda"));
+        assertThat(result.getLinkForRel("jedi").getHref(), CoreMatchers.is("/api/jedi/1"));
+    }
+
+    private static class CountingCodec implements TraversonCodec {
+
+        private final GsonCodec delegate = new GsonCodec();
+
+        private final AtomicInteger encoded = new AtomicInteger();
+
+        private final AtomicInteger decoded = new AtomicInteger();
+
+        private final AtomicInteger resolved = new AtomicInteger();
+
+        public MediaType getMediaType() {
+            return MediaType.parse("application/vnd.jedi+json");
+        }
+
+        public RequestBody encode(final Object value) {
+            encoded.incrementAndGet();
+            return RequestBody.create(getMediaType(), "{}");
+        }
+
+        public <T> T decode(final ResponseBody body, final Type type) throws IOException {
+            decoded.incrementAndGet();
+            return delegate.decode(body, type);
+        }
+
+        public <T> T decode(final JsonElement tree, final Type type) {
+            decoded.incrementAndGet();
+            return delegate.decode(tree, type);
+        }
+
+        public JsonElement readTree(final ResponseBody body) throws IOException {
+            return delegate.readTree(body);
+        }
+
+        @Override
+        public TraversonResult<JsonElement> resolve(final ResponseBody body, final String rel) throws IOException {
+            resolved.incrementAndGet();
+            return TraversonCodec.super.resolve(body, rel);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._201;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._401;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.security.TraversonBasicAuthenticator;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Inflater;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.GzipSource;
+import okio.InflaterSource;
+import okio.Okio;
+
+public class TraversonJsonHalCompressionTest extends AbstractJsonHalTest {
+
+    private static final MediaType TEXT = MediaType.parse("text/plain");
+
+    private static final String SMALL = "Luke Skywalker";
+
+    private static final String LARGE = new String(new char[256]).replace("\0", SMALL);
+
+    private boolean secured;
+
+    private List<RecordedRequest> uploads;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        secured = false;
+        uploads = new ArrayList<>();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi") && !request.getMethod().equals("GET")) {
+                    uploads.add(request);
+                    return secured && request.getHeader("Authorization") == null
+                        ? generateResponse(_401)
+                        : generateResponse(_201);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+        traverson = new Traverson.Builder(baseUrl)
+            .requestCompression(ContentEncoding.GZIP, 1024)
+            .build();
+    }
+
+    private static String gunzip(final Buffer body) throws IOException {
+        return Okio.buffer(new GzipSource(body)).readUtf8();
+    }
+
+    @Test
+    public void compressesLargeBodies() throws IOException {
+        traverson.follow("jedi").post(RequestBody.create(TEXT, LARGE));
+
+        RecordedRequest upload = uploads.get(0);
+        assertThat(upload.getHeader("Content-Encoding"), CoreMatchers.is("gzip"));
+        assertThat(upload.getHeader("Content-Type"), CoreMatchers.startsWith("text/plain"));
+        assertThat(upload.getBodySize() < LARGE.length(), CoreMatchers.is(true));
+        assertThat(gunzip(upload.getBody()), CoreMatchers.is(LARGE));
+    }
+
+    @Test
+    public void sendsSmallBodiesUncompressed() throws IOException {
+        traverson.follow("jedi").put(RequestBody.create(TEXT, SMALL));
+
+        RecordedRequest upload = uploads.get(0);
+        assertThat(upload.getHeader("Content-Encoding"), CoreMatchers.nullValue());
+        assertThat(upload.getBody().readUtf8(), CoreMatchers.is(SMALL));
+    }
+
+    @Test
+    public void overridesCompressionPerTraversal() throws IOException {
+        traverson.follow("jedi").requestCompression(null, 0).post(RequestBody.create(TEXT, LARGE));
+        traverson.follow("jedi").requestCompression(ContentEncoding.GZIP, 0).post(RequestBody.create(TEXT, SMALL));
+
+        assertThat(uploads.get(0).getHeader("Content-Encoding"), CoreMatchers.nullValue());
+        assertThat(uploads.get(0).getBody().readUtf8(), CoreMatchers.is(LARGE));
+        assertThat(uploads.get(1).getHeader("Content-Encoding"), CoreMatchers.is("gzip"));
+        assertThat(gunzip(uploads.get(1).getBody()), CoreMatchers.is(SMALL));
+    }
+
+    @Test
+    public void compressesWithDeflate() throws IOException {
+        traverson.follow("jedi").requestCompression(ContentEncoding.DEFLATE, 1024).post(RequestBody.create(TEXT, LARGE));
+
+        RecordedRequest upload = uploads.get(0);
+        assertThat(upload.getHeader("Content-Encoding"), CoreMatchers.is("deflate"));
+        assertThat(Okio.buffer(new InflaterSource(upload.getBody(), new Inflater())).readUtf8(),
+            CoreMatchers.is(LARGE));
+    }
+
+    @Test
+    public void keepsCompressionAfter401() throws IOException {
+        secured = true;
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(new TraversonBasicAuthenticator("luke", "skywalker"))
+            .requestCompression(ContentEncoding.GZIP, 1024)
+            .build();
+
+        traverson.follow("jedi").post(RequestBody.create(TEXT, LARGE));
+
+        assertThat(uploads.size(), CoreMatchers.is(2));
+        assertThat(uploads.get(1).getHeader("Authorization"), CoreMatchers.notNullValue());
+        assertThat(uploads.get(1).getHeader("Content-Encoding"), CoreMatchers.is("gzip"));
+        assertThat(gunzip(uploads.get(1).getBody()), CoreMatchers.is(LARGE));
+    }
+
+    @Test
+    public void leavesRequestSinkOpen() throws IOException {
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            Buffer target = new Buffer();
+            AtomicBoolean closed = new AtomicBoolean();
+            BufferedSink sink = Okio.buffer(new ForwardingSink(target) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            });
+
+            StreamingBody.compressed(RequestBody.create(TEXT, LARGE), encoding).writeTo(sink);
+
+            assertThat(closed.get(), CoreMatchers.is(false));
+            assertThat(target.size() > 0, CoreMatchers.is(true));
+        }
+    }
+}
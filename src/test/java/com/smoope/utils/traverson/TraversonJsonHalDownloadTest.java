@@ -0,0 +1,140 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+public class TraversonJsonHalDownloadTest extends AbstractJsonHalTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private Path file;
+
+    private boolean ranges;
+
+    private String range;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        ranges = true;
+        range = null;
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    requests++;
+                    range = request.getHeader("Range");
+                    if (range == null || !ranges) {
+                        return new MockResponse().setBody(new Buffer().writeUtf8(CONTENT));
+                    }
+
+                    int offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    if (offset >= CONTENT.length()) {
+                        return new MockResponse().setResponseCode(416);
+                    }
+
+                    return new MockResponse()
+                        .setResponseCode(206)
+                        .setHeader("Content-Range", "bytes " + offset + "-" + (CONTENT.length() - 1) + "/" + CONTENT.length())
+                        .setBody(CONTENT.substring(offset));
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        try {
+            file = Files.createTempFile("traverson", ".download");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void downloadsToFile() throws IOException {
+        Files.write(file, "stale content that is longer than the resource itself".getBytes(StandardCharsets.UTF_8));
+
+        long written = traverson.follow("jedi").getTo(file);
+
+        assertThat(written, CoreMatchers.is((long) CONTENT.length()));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), CoreMatchers.is(CONTENT));
+        assertThat(range, CoreMatchers.nullValue());
+    }
+
+    @Test
+    public void downloadsToStreamWithProgress() throws IOException {
+        final List<Long> progress = new ArrayList<>();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        long written = traverson.follow("jedi")
+            .progress((bytes, contentLength) -> {
+                progress.add(bytes);
+                assertThat(contentLength, CoreMatchers.is((long) CONTENT.length()));
+            })
+            .getTo(target);
+
+        assertThat(written, CoreMatchers.is((long) CONTENT.length()));
+        assertThat(target.toString("UTF-8"), CoreMatchers.is(CONTENT));
+        assertThat(progress.get(progress.size() - 1), CoreMatchers.is((long) CONTENT.length()));
+    }
+
+    @Test
+    public void resumesPartialDownload() throws IOException {
+        Files.write(file, CONTENT.substring(0, 10).getBytes(StandardCharsets.UTF_8));
+
+        long written = traverson.follow("jedi").getTo(file, true);
+
+        assertThat(range, CoreMatchers.is("bytes=10-"));
+        assertThat(written, CoreMatchers.is((long) CONTENT.length() - 10));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), CoreMatchers.is(CONTENT));
+    }
+
+    @Test
+    public void restartsWhenRangeIgnored() throws IOException {
+        ranges = false;
+        Files.write(file, CONTENT.substring(0, 10).getBytes(StandardCharsets.UTF_8));
+
+        long written = traverson.follow("jedi").getTo(file, true);
+
+        assertThat(written, CoreMatchers.is((long) CONTENT.length()));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), CoreMatchers.is(CONTENT));
+    }
+
+    @Test
+    public void skipsCompleteDownload() throws IOException {
+        Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        long written = traverson.follow("jedi").getTo(file, true);
+
+        assertThat(written, CoreMatchers.is(0L));
+        assertThat(requests, CoreMatchers.is(1));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), CoreMatchers.is(CONTENT));
+    }
+}
@@ -0,0 +1,90 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalEmbeddedStreamTest extends AbstractJsonHalTest {
+
+    private void respondWith(final MockResponse jedi) {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    return jedi;
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void streamsEmbeddedItems() throws IOException {
+        respondWith(generateResponse(COLLECTION));
+
+        try (Stream<ItemResult> jedi = traverson.follow("jedi").streamEmbedded("jedi", ItemResult.class)) {
+            List<String> names = jedi.map(ItemResult::getName).collect(Collectors.toList());
+
+            assertThat(names.size(), CoreMatchers.is(2));
+            assertThat(names.get(0), CoreMatchers.is("Luke Skywalker"));
+        }
+    }
+
+    @Test
+    public void streamsLargePage() throws IOException {
+        StringBuilder body = new StringBuilder("{\"_links\":{},\"_embedded\":{\"jedi\":[");
+        for (int i = 0; i < 10000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"Jedi ").append(i).append("\"}");
+        }
+        respondWith(new MockResponse().setBody(body.append("]}}").toString()));
+
+        try (Stream<ItemResult> jedi = traverson.follow("jedi").streamEmbedded("jedi", ItemResult.class)) {
+            assertThat(jedi.count(), CoreMatchers.is(10000L));
+        }
+    }
+
+    @Test
+    public void bindsItemsBeforeReadingTheRest() throws IOException {
+        respondWith(new MockResponse().setBody("{\"_embedded\":{\"jedi\":[{\"id\":1,\"name\":\"Yoda\"},{\"id\":"));
+
+        Iterator<ItemResult> jedi = traverson.follow("jedi").streamEmbedded("jedi", ItemResult.class).iterator();
+
+        assertThat(jedi.next().getName(), CoreMatchers.is("Yoda"));
+        try {
+            jedi.next();
+        } catch (RuntimeException e) {
+            return;
+        }
+
+        throw new AssertionError("Expected the truncated item to fail");
+    }
+
+    @Test
+    public void streamsSingleAndMissingRels() throws IOException {
+        respondWith(new MockResponse().setBody("{\"_embedded\":{\"jedi\":{\"id\":1,\"name\":\"Yoda\"}}}"));
+
+        try (Stream<ItemResult> jedi = traverson.follow("jedi").streamEmbedded("jedi", ItemResult.class)) {
+            assertThat(jedi.count(), CoreMatchers.is(1L));
+        }
+        try (Stream<ItemResult> sith = traverson.follow("jedi").streamEmbedded("sith", ItemResult.class)) {
+            assertThat(sith.count(), CoreMatchers.is(0L));
+        }
+    }
+}
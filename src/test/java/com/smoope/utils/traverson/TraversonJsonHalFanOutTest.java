@@ -0,0 +1,113 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalFanOutTest extends AbstractJsonHalTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    return generateResponse(COLLECTION);
+                } else if (request.getPath().matches("/api/jedi/\\d/saber")) {
+                    String id = request.getPath().substring(10, 11);
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep("1".equals(id) ? 200 : 50);
+                    inFlight.decrementAndGet();
+
+                    return new MockResponse().setBody(String.format("{\"id\":%s,\"name\":\"Saber %s\"}", id, id));
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void followsEveryItemInOrder() throws IOException {
+        List<ItemResult> sabers = traverson
+            .follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("lightSaber")
+            .getAll(ItemResult.class);
+
+        assertThat(sabers.size(), CoreMatchers.is(2));
+        assertThat(sabers.get(0).getName(), CoreMatchers.is("Saber 1"));
+        assertThat(sabers.get(1).getName(), CoreMatchers.is("Saber 2"));
+        assertThat(maxInFlight.get(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void limitsConcurrency() throws IOException {
+        List<ItemResult> sabers = traverson
+            .follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("lightSaber")
+            .concurrency(1)
+            .getAll(ItemResult.class);
+
+        assertThat(sabers.size(), CoreMatchers.is(2));
+        assertThat(maxInFlight.get(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void limitsRequestsPerHost() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .maxRequestsPerHost(1)
+            .build();
+
+        traverson
+            .follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("lightSaber")
+            .getAll(ItemResult.class);
+
+        assertThat(maxInFlight.get(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void bindsItemsWithoutFollowing() throws Exception {
+        List<ItemResult> jedi = traverson
+            .follow("jedi")
+            .forEachEmbedded("jedi")
+            .<ItemResult>getAllAsync(ItemResult.class)
+            .get(1, TimeUnit.SECONDS);
+
+        assertThat(jedi.get(1).getName(), CoreMatchers.is("Obi-Wan Kenob"));
+    }
+
+    @Test(expected = Traverson.TraversonException.class)
+    public void failsWhenAnyItemFails() throws IOException {
+        traverson
+            .follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("master")
+            .getAll(ItemResult.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT_WITH_EMBEDDED;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalFollowAllTest extends AbstractJsonHalTest {
+
+    private final Map<String, Integer> hits = new ConcurrentHashMap<>();
+
+    @Test
+    public void fetchesSharedPrefixesOnce() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                hits.merge(request.getPath(), 1, Integer::sum);
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else if (request.getPath().equals("/api/jedi/1")) {
+                    return generateResponse(ITEM);
+                } else if (request.getPath().equals("/api/jedi/1/saber")) {
+                    return generateResponse(COLLECTION);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        Map<List<String>, TraversonResult<JsonElement>> results = traverson
+            .followAll(
+                new String[] { "jedi", "lightSaber" },
+                new String[] { "jedi", "self" },
+                new String[] { "jedi" },
+                new String[] {}
+            )
+            .get(new TypeToken<TraversonResult<JsonElement>>() { }.getType());
+
+        assertThat(results.keySet().iterator().next(), CoreMatchers.is(Arrays.asList("jedi", "lightSaber")));
+        assertThat(results.get(Arrays.asList("jedi", "lightSaber")).getLinkForRel("next"), CoreMatchers.notNullValue());
+        assertThat(results.get(Arrays.asList("jedi", "self")).getLinkForRel("lightSaber"), CoreMatchers.notNullValue());
+        assertThat(results.get(Arrays.asList("jedi")).getLinkForSelf(), CoreMatchers.notNullValue());
+        assertThat(results.get(Arrays.<String>asList()).getLinkForRel("jedi"), CoreMatchers.notNullValue());
+        assertThat(hits.get("/api"), CoreMatchers.is(1));
+        assertThat(hits.get("/api/jedi"), CoreMatchers.is(1));
+        assertThat(server.getRequestCount(), CoreMatchers.is(4));
+    }
+
+    @Test
+    public void resolvesEmbeddedBranches() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT_WITH_EMBEDDED);
+                } else if (request.getPath().equals("/api/jedi/1/saber")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        Map<List<String>, ItemResult> results = traverson
+            .followAll(new String[] { "jedi" }, new String[] { "jedi", "lightSaber" })
+            .get(ItemResult.class);
+
+        assertThat(results.get(Arrays.asList("jedi")).getName(), CoreMatchers.is("Luke Skywalker"));
+        assertThat(results.get(Arrays.asList("jedi", "lightSaber")).getId(), CoreMatchers.notNullValue());
+        assertThat(server.getRequestCount(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void fetchesTargetsOutsideHopCache() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT).setHeader("Cache-Control", "max-age=60");
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM).setHeader("Cache-Control", "max-age=60");
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+        traverson = new Traverson.Builder(baseUrl)
+            .resourceCache(10)
+            .build();
+
+        Map<List<String>, ItemResult> results = traverson
+            .followAll(new String[] { "jedi", "lightSaber" })
+            .get(ItemResult.class);
+
+        assertThat(results.get(Arrays.asList("jedi", "lightSaber")).getId(), CoreMatchers.notNullValue());
+        assertThat(traverson.getResourceCache().size(), CoreMatchers.is(2));
+    }
+
+    @Test(expected = Traverson.TraversonException.class)
+    public void failsOnMissingRel() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return request.getPath().equals("/api") ? generateResponse(ROOT) : generateResponse(_404);
+            }
+        });
+
+        traverson
+            .followAll(new String[] { "sith" })
+            .get(TraversonResult.class);
+    }
+}
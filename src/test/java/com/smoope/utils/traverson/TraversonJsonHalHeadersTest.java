@@ -0,0 +1,103 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.security.TraversonBasicAuthenticator;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Credentials;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalHeadersTest extends AbstractJsonHalTest {
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return generateResponse(ROOT);
+            }
+        });
+    }
+
+    @Test
+    public void mergesTraversingHeaders() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .defaultHeader("X-Side", "light")
+            .defaultHeader("X-Order", "jedi")
+            .build();
+
+        traverson.follow().withHeader("X-Side", "dark").get();
+
+        RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getHeaders().values("X-Side").size(), CoreMatchers.is(1));
+        assertThat(request.getHeader("X-Side"), CoreMatchers.is("dark"));
+        assertThat(request.getHeader("X-Order"), CoreMatchers.is("jedi"));
+    }
+
+    @Test
+    public void updatesDefaultHeaders() throws Exception {
+        traverson.addDefaultHeader("X-Side", "light");
+        traverson.follow().get();
+        traverson.removeDefaultHeader("X-Side");
+        traverson.follow().get();
+
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getHeader("X-Side"), CoreMatchers.is("light"));
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getHeader("X-Side"), CoreMatchers.nullValue());
+    }
+
+    @Test
+    public void storesPreemptiveCredentials() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(new TraversonBasicAuthenticator("luke", "skywalker"), true)
+            .build();
+
+        traverson.follow().withHeader("X-Side", "light").get();
+        traverson.follow().get();
+
+        RecordedRequest first = server.takeRequest(1, TimeUnit.SECONDS);
+        RecordedRequest second = server.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(first.getHeader("Authorization"), CoreMatchers.is(Credentials.basic("luke", "skywalker")));
+        assertThat(second.getHeader("Authorization"), CoreMatchers.is(Credentials.basic("luke", "skywalker")));
+    }
+
+    @Test
+    public void sharesTraversonBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final String value = String.valueOf(i);
+            results.add(executor.submit(() -> {
+                traverson.addDefaultHeader("X-Request-" + (Integer.valueOf(value) % 4), value);
+                traverson.removeDefaultHeader("X-Request-" + ((Integer.valueOf(value) + 1) % 4));
+                try (okhttp3.Response response = traverson.follow().withHeader("X-Side", "light").get()) {
+                    return response.code();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            assertThat(result.get(), CoreMatchers.<Object>is(200));
+        }
+
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,167 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._503;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalLinkCacheTest extends AbstractJsonHalTest {
+
+    private boolean saberGone;
+
+    private boolean saberBroken;
+
+    private String cacheControl;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        saberGone = false;
+        saberBroken = false;
+        cacheControl = "max-age=86400";
+        traverson = new Traverson.Builder(baseUrl)
+            .linkCache(10, 1, TimeUnit.HOURS)
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                requests++;
+                if (request.getPath().equals("/api")) {
+                    return withCacheControl(generateResponse(ROOT));
+                } else if (request.getPath().equals("/api/jedi/1/saber")) {
+                    return saberGone ? generateResponse(_404)
+                        : saberBroken ? generateResponse(_503)
+                        : generateResponse(ITEM);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return withCacheControl(generateResponse(ITEM));
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    private MockResponse withCacheControl(final MockResponse response) {
+        return response.setHeader("Cache-Control", cacheControl);
+    }
+
+    @Test
+    public void skipsIntermediateHops() throws IOException {
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(3));
+
+        ItemResult result = traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(requests, CoreMatchers.is(4));
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(1));
+    }
+
+    @Test
+    public void fallsBackToTraversalWhenGone() throws IOException {
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        saberGone = true;
+
+        try {
+            traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+            fail();
+        } catch (Traverson.TraversonException e) {
+            assertThat(e.getCode(), CoreMatchers.is(404));
+        }
+
+        assertThat(requests, CoreMatchers.is(7));
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(0));
+    }
+
+    @Test
+    public void skipsFailedTargets() throws IOException {
+        saberBroken = true;
+
+        try {
+            traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+            fail();
+        } catch (Traverson.TraversonException e) {
+            assertThat(e.getCode(), CoreMatchers.is(503));
+        }
+
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(0));
+    }
+
+    @Test
+    public void traversesForOneShotBodies() throws IOException {
+        MediaType text = MediaType.parse("text/plain");
+        traverson.follow("jedi", "lightSaber").post(RequestBody.create(text, "Luke"));
+        assertThat(requests, CoreMatchers.is(3));
+
+        traverson.follow("jedi", "lightSaber")
+            .post(StreamingBody.create(text, new ByteArrayInputStream("Luke".getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(requests, CoreMatchers.is(6));
+    }
+
+    @Test
+    public void honorsMaxAge() throws IOException {
+        cacheControl = "max-age=0";
+
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(requests, CoreMatchers.is(6));
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(0));
+    }
+
+    @Test
+    public void matchesIntermediateTemplateParameters() throws IOException {
+        traverson.follow("jedi", "lightSaber").withTemplateParameter("page", "1").get(ItemResult.class);
+        traverson.follow("jedi", "lightSaber").withTemplateParameter("page", "1").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(4));
+
+        traverson.follow("jedi", "lightSaber").withTemplateParameter("page", "2").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(7));
+    }
+
+    @Test
+    public void skipsUncacheableHops() throws IOException {
+        cacheControl = "no-store, max-age=86400";
+
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(6));
+
+        cacheControl = "no-cache";
+
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(9));
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(0));
+    }
+
+    @Test
+    public void keepsPrincipalsApart() throws IOException {
+        traverson.follow("jedi", "lightSaber").withHeader("Authorization", "Bearer luke").get(ItemResult.class);
+        traverson.follow("jedi", "lightSaber").withHeader("Authorization", "Bearer vader").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(6));
+
+        traverson.follow("jedi", "lightSaber").withHeader("Authorization", "Bearer luke").get(ItemResult.class);
+        assertThat(requests, CoreMatchers.is(7));
+        assertThat(traverson.getLinkCache().size(), CoreMatchers.is(2));
+    }
+}
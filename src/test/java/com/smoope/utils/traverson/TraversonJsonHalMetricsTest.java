@@ -0,0 +1,135 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._201;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.metrics.Histogram;
+import com.smoope.utils.traverson.metrics.HistogramMetrics;
+import com.smoope.utils.traverson.metrics.TraversonMetrics.HopSource;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalMetricsTest extends AbstractJsonHalTest {
+
+    private HistogramMetrics metrics;
+
+    private boolean embedded;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        embedded = false;
+        metrics = new HistogramMetrics();
+        traverson = new Traverson.Builder(baseUrl)
+            .metrics(metrics)
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return embedded
+                        ? generateResponse(ROOT).setBody("{\"_embedded\":{\"jedi\":{\"_links\":{\"lightSaber\":{\"href\":\"" + baseUrl + "/jedi/1/saber\"}}}}}")
+                        : generateResponse(ROOT).setHeader("Cache-Control", "max-age=60");
+                } else if (request.getPath().startsWith("/api/jedi") && request.getMethod().equals("POST")) {
+                    return generateResponse(_201);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void recordsHopsAndRequests() throws IOException {
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(metrics.getHops(HopSource.NETWORK), CoreMatchers.is(2L));
+        assertThat(metrics.getHopLatency().getCount(), CoreMatchers.is(2L));
+        assertThat(metrics.getTraversalLatency().getCount(), CoreMatchers.is(1L));
+        assertThat(metrics.getHopsPerTraversal().getMax(), CoreMatchers.is(2L));
+        assertThat(metrics.getRequestLatency().getCount(), CoreMatchers.is(3L));
+        assertThat(metrics.getDecodeTime().getCount(), CoreMatchers.is(3L));
+        assertThat(metrics.getBytesReceived() > 0, CoreMatchers.is(true));
+    }
+
+    @Test
+    public void removesMetrics() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .metrics(metrics)
+            .metrics(null)
+            .build();
+
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(metrics.getHops(HopSource.NETWORK), CoreMatchers.is(0L));
+        assertThat(metrics.getRequestLatency().getCount(), CoreMatchers.is(0L));
+    }
+
+    @Test
+    public void recordsEmbeddedHops() throws IOException {
+        embedded = true;
+
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(metrics.getHops(HopSource.NETWORK), CoreMatchers.is(1L));
+        assertThat(metrics.getHops(HopSource.EMBEDDED), CoreMatchers.is(1L));
+        assertThat(metrics.getRequestLatency().getCount(), CoreMatchers.is(2L));
+    }
+
+    @Test
+    public void recordsBytesSentAndFailures() throws IOException {
+        traverson.follow("jedi").post(new ItemResult());
+        try {
+            traverson.follow("sith").get(ItemResult.class);
+        } catch (Traverson.TraversonException ignored) {
+        }
+
+        assertThat(metrics.getBytesSent() > 0, CoreMatchers.is(true));
+        assertThat(metrics.getFailedTraversals(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void recordsCacheHitRatios() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .metrics(metrics)
+            .linkCache(10, 1, TimeUnit.HOURS)
+            .resourceCache(10)
+            .build();
+
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(metrics.getLinkCacheHitRatio(), CoreMatchers.is(1.0 / 3));
+        assertThat(metrics.getHops(HopSource.CACHE), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void estimatesPercentiles() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), CoreMatchers.is(1000L));
+        assertThat(histogram.getMax(), CoreMatchers.is(1000L));
+        assertThat(histogram.getPercentile(50) >= 500 && histogram.getPercentile(50) <= 625, CoreMatchers.is(true));
+        assertThat(histogram.getPercentile(100), CoreMatchers.is(1000L));
+    }
+}
@@ -0,0 +1,226 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.OAUTH;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.OAUTH_ERROR;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._401;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.security.TraversonOAuth2Authenticator;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalOAuth2Test extends AbstractJsonHalTest {
+
+    private static final String TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9";
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    private final List<String> grants = new ArrayList<>();
+
+    private volatile MockResponse tokenResponse;
+
+    private volatile CountDownLatch tokenReleased;
+
+    private TraversonOAuth2Authenticator authenticator;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        tokenRequests.set(0);
+        tokenResponse = generateResponse(OAUTH);
+        tokenReleased = new CountDownLatch(0);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/auth")) {
+                    tokenRequests.incrementAndGet();
+                    synchronized (grants) {
+                        grants.add(request.getBody().readUtf8());
+                    }
+                    tokenReleased.await(5, TimeUnit.SECONDS);
+                    return tokenResponse;
+                } else if (!TOKEN.equals(request.getHeader("Authorization"))) {
+                    return generateResponse(_401);
+                } else if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (authenticator != null) {
+            authenticator.close();
+        }
+    }
+
+    @Test
+    public void reusesToken() throws Exception {
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl)
+            .client("client", "secret")
+            .password("luke", "skywalker")
+            .build();
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(authenticator, true)
+            .build();
+
+        traverson.follow("jedi").get(ItemResult.class);
+        ItemResult result = traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(tokenRequests.get(), CoreMatchers.is(1));
+        assertThat(grants.get(0).contains("grant_type=password"), CoreMatchers.is(true));
+        assertThat(authenticator.getRefreshCount(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void singleFlightRefresh() throws Exception {
+        tokenResponse = generateResponse(OAUTH).setBodyDelay(200, TimeUnit.MILLISECONDS);
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl).build();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> credentials = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            credentials.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return authenticator.getCredentials();
+            }));
+        }
+        start.countDown();
+
+        for (CompletableFuture<String> future : credentials) {
+            assertThat(future.get(), CoreMatchers.is(TOKEN));
+        }
+        assertThat(tokenRequests.get(), CoreMatchers.is(1));
+        assertThat(authenticator.getLastRefreshLatency() >= 200, CoreMatchers.is(true));
+    }
+
+    @Test
+    public void refreshesBeforeExpiry() throws Exception {
+        tokenResponse = generateResponse(OAUTH)
+            .setBody("{\"access_token\":\"eyJhbGciOiJIUzI1NiJ9\",\"refresh_token\":\"refresh\",\"expires_in\":\"61\"}");
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl)
+            .refreshMargin(60500, TimeUnit.MILLISECONDS)
+            .build();
+
+        assertThat(authenticator.getCredentials(), CoreMatchers.is(TOKEN));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (authenticator.getRefreshCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(authenticator.getRefreshCount() >= 2, CoreMatchers.is(true));
+        assertThat(grants.get(1).contains("grant_type=refresh_token"), CoreMatchers.is(true));
+        assertThat(grants.get(1).contains("refresh_token=refresh"), CoreMatchers.is(true));
+    }
+
+    @Test
+    public void singleBackgroundRefreshInsideMargin() throws Exception {
+        tokenResponse = generateResponse(OAUTH)
+            .setBody("{\"access_token\":\"eyJhbGciOiJIUzI1NiJ9\",\"refresh_token\":\"refresh\",\"expires_in\":\"3600\"}");
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl)
+            .refreshMargin(2, TimeUnit.HOURS)
+            .build();
+
+        assertThat(authenticator.getCredentials(), CoreMatchers.is(TOKEN));
+        long fetched = authenticator.getRefreshCount();
+        tokenRequests.set(0);
+        tokenReleased = new CountDownLatch(1);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> credentials = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            credentials.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return authenticator.getCredentials();
+            }));
+        }
+        start.countDown();
+
+        for (CompletableFuture<String> future : credentials) {
+            assertThat(future.get(), CoreMatchers.is(TOKEN));
+        }
+        tokenReleased.countDown();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (authenticator.getRefreshCount() == fetched && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(300);
+
+        assertThat(tokenRequests.get(), CoreMatchers.is(1));
+        assertThat(authenticator.getRefreshCount() - fetched, CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void failsOnRejectedGrant() {
+        tokenResponse = generateResponse(OAUTH_ERROR);
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl).build();
+
+        try {
+            authenticator.getCredentials();
+        } catch (UncheckedIOException e) {
+            assertThat(e.getCause().getCause(), CoreMatchers.instanceOf(Traverson.TraversonException.class));
+            assertThat(((Traverson.TraversonException) e.getCause().getCause()).getCode(), CoreMatchers.is(400));
+            assertThat(authenticator.getRefreshFailures(), CoreMatchers.is(1L));
+
+            return;
+        }
+
+        throw new AssertionError("Expected an UncheckedIOException");
+    }
+
+    @Test
+    public void failsAsyncCallOnRejectedGrant() throws Exception {
+        tokenResponse = generateResponse(OAUTH_ERROR);
+        authenticator = new TraversonOAuth2Authenticator.Builder(authUrl).build();
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(authenticator, true)
+            .build();
+
+        try {
+            traverson.follow("jedi").getAsync(ItemResult.class).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), CoreMatchers.instanceOf(IOException.class));
+
+            return;
+        }
+
+        throw new AssertionError("Expected an IOException");
+    }
+}
@@ -0,0 +1,123 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.metrics.TraversonMetrics;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalPaginationTest extends AbstractJsonHalTest {
+
+    private static final String LAST_PAGE = "{\"_links\":{},\"_embedded\":{\"jedi\":[{\"id\":3,\"name\":\"Yoda\"}]},"
+        + "\"page\":{\"size\":2,\"totalElements\":3,\"totalPages\":2,\"number\":1}}";
+
+    private volatile long collectionDelay;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        collectionDelay = 0;
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    Thread.sleep(collectionDelay);
+                    return generateResponse(COLLECTION);
+                } else if (request.getPath().equals("/api/jedi?page=1")) {
+                    return new MockResponse().setBody(LAST_PAGE);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void iteratesAllPages() {
+        Iterator<ItemResult> jedi = traverson
+            .follow("jedi")
+            .iterate("jedi", ItemResult.class);
+
+        assertThat(jedi.next().getName(), CoreMatchers.is("Luke Skywalker"));
+        assertThat(jedi.next().getName(), CoreMatchers.is("Obi-Wan Kenob"));
+        assertThat(jedi.next().getName(), CoreMatchers.is("Yoda"));
+        assertThat(jedi.hasNext(), CoreMatchers.is(false));
+        assertThat(server.getRequestCount(), CoreMatchers.is(3));
+    }
+
+    @Test
+    public void prefetchesNextPage() throws InterruptedException {
+        Iterator<ItemResult> jedi = traverson
+            .follow("jedi")
+            .iterate("jedi", ItemResult.class);
+
+        jedi.next();
+
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath(), CoreMatchers.is("/api"));
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath(), CoreMatchers.is("/api/jedi"));
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath(), CoreMatchers.is("/api/jedi?page=1"));
+    }
+
+    @Test
+    public void readsFirstPageAfterClose() throws InterruptedException {
+        final CountDownLatch completed = new CountDownLatch(2);
+        traverson = new Traverson.Builder(baseUrl)
+            .metrics(new TraversonMetrics() {
+                @Override
+                public void request(final String method, final String host, final int code, final long nanos) {
+                    completed.countDown();
+                }
+            })
+            .build();
+        collectionDelay = 300;
+
+        traverson.follow("jedi").stream("jedi", ItemResult.class).close();
+
+        // a call only completes once its response is closed
+        assertThat(completed.await(2, TimeUnit.SECONDS), CoreMatchers.is(true));
+    }
+
+    @Test
+    public void withoutReadAhead() {
+        Iterator<ItemResult> jedi = traverson
+            .follow("jedi")
+            .readAhead(0)
+            .iterate("jedi", ItemResult.class);
+
+        jedi.next();
+        jedi.next();
+        assertThat(server.getRequestCount(), CoreMatchers.is(2));
+
+        assertThat(jedi.next().getName(), CoreMatchers.is("Yoda"));
+        assertThat(server.getRequestCount(), CoreMatchers.is(3));
+    }
+
+    @Test
+    public void streamsAllPages() {
+        try (Stream<ItemResult> jedi = traverson.follow("jedi").stream("jedi", ItemResult.class)) {
+            List<String> names = jedi.map(ItemResult::getName).collect(Collectors.toList());
+
+            assertThat(names, CoreMatchers.is(Arrays.asList("Luke Skywalker", "Obi-Wan Kenob", "Yoda")));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.COLLECTION;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalPublisherTest extends AbstractJsonHalTest {
+
+    private static final String LAST_PAGE = "{\"_links\":{},\"_embedded\":{\"jedi\":[{\"id\":3,\"name\":\"Yoda\"}]}}";
+
+    private boolean lastPageGone;
+
+    private volatile CountDownLatch firstSaberReleased;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        lastPageGone = false;
+        firstSaberReleased = new CountDownLatch(0);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi")) {
+                    return generateResponse(COLLECTION);
+                } else if (request.getPath().equals("/api/jedi?page=1")) {
+                    return lastPageGone ? generateResponse(_404) : new MockResponse().setBody(LAST_PAGE);
+                } else if (request.getPath().matches("/api/jedi/\\d/saber")) {
+                    String id = request.getPath().substring(10, 11);
+                    if ("1".equals(id)) {
+                        firstSaberReleased.await(5, TimeUnit.SECONDS);
+                    }
+
+                    return new MockResponse().setBody(String.format("{\"id\":%s,\"name\":\"Saber %s\"}", id, id));
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void publishesAllPages() throws InterruptedException {
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi").publish("jedi", ItemResult.class).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(subscriber.error, CoreMatchers.nullValue());
+        assertThat(subscriber.items.size(), CoreMatchers.is(3));
+        assertThat(subscriber.items.get(2).getName(), CoreMatchers.is("Yoda"));
+        assertThat(server.getRequestCount(), CoreMatchers.is(3));
+    }
+
+    @Test
+    public void fetchesPagesOnDemand() throws InterruptedException {
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi").publish("jedi", ItemResult.class).subscribe(subscriber);
+        assertThat(server.getRequestCount(), CoreMatchers.is(0));
+
+        subscriber.request(2);
+        subscriber.awaitItems(2);
+        Thread.sleep(100);
+        assertThat(server.getRequestCount(), CoreMatchers.is(2));
+
+        subscriber.request(1);
+        subscriber.awaitItems(3);
+        subscriber.request(1);
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(server.getRequestCount(), CoreMatchers.is(3));
+    }
+
+    @Test
+    public void publishesFailures() throws InterruptedException {
+        lastPageGone = true;
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi").publish("jedi", ItemResult.class).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(subscriber.items.size(), CoreMatchers.is(2));
+        assertThat(subscriber.error, CoreMatchers.instanceOf(Traverson.TraversonException.class));
+    }
+
+    @Test
+    public void rejectsNonPositiveDemand() throws InterruptedException {
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi").publish("jedi", ItemResult.class).subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(subscriber.error, CoreMatchers.instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void publishesFanOutOnDemand() throws InterruptedException {
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("lightSaber")
+            .publish(ItemResult.class)
+            .subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.awaitItems(1);
+        Thread.sleep(100);
+        assertThat(subscriber.items.get(0).getName(), CoreMatchers.is("Saber 1"));
+        assertThat(server.getRequestCount(), CoreMatchers.is(3));
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(subscriber.items.get(1).getName(), CoreMatchers.is("Saber 2"));
+        assertThat(server.getRequestCount(), CoreMatchers.is(4));
+    }
+
+    @Test
+    public void traversesDemandedItemsTogether() throws InterruptedException {
+        firstSaberReleased = new CountDownLatch(1);
+        RecordingSubscriber<ItemResult> subscriber = new RecordingSubscriber<>();
+        traverson.follow("jedi")
+            .forEachEmbedded("jedi")
+            .follow("lightSaber")
+            .publish(ItemResult.class)
+            .subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        RecordedRequest request;
+        do {
+            request = server.takeRequest(5, TimeUnit.SECONDS);
+        } while (request != null && !request.getPath().equals("/api/jedi/2/saber"));
+        assertThat(request, CoreMatchers.notNullValue());
+        assertThat(subscriber.items.isEmpty(), CoreMatchers.is(true));
+
+        firstSaberReleased.countDown();
+
+        assertThat(subscriber.awaitTermination(), CoreMatchers.is(true));
+        assertThat(subscriber.items.get(0).getName(), CoreMatchers.is("Saber 1"));
+        assertThat(subscriber.items.get(1).getName(), CoreMatchers.is("Saber 2"));
+    }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> items = new CopyOnWriteArrayList<>();
+
+        private final BlockingQueue<T> received = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Subscription subscription;
+
+        private volatile Throwable error;
+
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        public void onNext(final T item) {
+            items.add(item);
+            received.add(item);
+        }
+
+        public void onError(final Throwable error) {
+            this.error = error;
+            terminated.countDown();
+        }
+
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        void request(final long n) {
+            subscription.request(n);
+        }
+
+        void awaitItems(final int count) throws InterruptedException {
+            while (items.size() < count) {
+                if (received.poll(5, TimeUnit.SECONDS) == null) {
+                    throw new AssertionError("Expected " + count + " items, got " + items.size());
+                }
+            }
+        }
+
+        boolean awaitTermination() throws InterruptedException {
+            return terminated.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
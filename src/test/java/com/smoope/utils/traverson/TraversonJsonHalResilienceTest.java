@@ -0,0 +1,192 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._500;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.resilience.Bulkhead;
+import com.smoope.utils.traverson.resilience.CircuitBreaker;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalResilienceTest extends AbstractJsonHalTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private volatile boolean failing;
+
+    private volatile CountDownLatch arrived;
+
+    private volatile CountDownLatch gate;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        calls.set(0);
+        failing = false;
+        arrived = new CountDownLatch(1);
+        gate = new CountDownLatch(0);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                calls.incrementAndGet();
+                if (failing) {
+                    return generateResponse(_500);
+                } else if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    arrived.countDown();
+                    gate.await(5, TimeUnit.SECONDS);
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void opensCircuit() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .circuitBreaker(new CircuitBreaker.Builder()
+                .window(4, 4)
+                .openDuration(1, TimeUnit.HOURS)
+                .build())
+            .build();
+        failing = true;
+
+        for (int i = 0; i < 4; i++) {
+            try {
+                traverson.follow("jedi").get(ItemResult.class);
+            } catch (Traverson.TraversonException e) {
+                assertThat(e.getCode(), CoreMatchers.is(500));
+            }
+        }
+
+        try {
+            traverson.follow("jedi").get(ItemResult.class);
+        } catch (Traverson.CircuitOpenException e) {
+            assertThat(calls.get(), CoreMatchers.is(4));
+            assertThat(traverson.getCircuitBreaker().getState(server.getHostName() + ":" + server.getPort()),
+                CoreMatchers.is(CircuitBreaker.State.OPEN));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a CircuitOpenException");
+    }
+
+    @Test
+    public void closesCircuitAfterTrialCalls() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .circuitBreaker(new CircuitBreaker.Builder()
+                .window(2, 2)
+                .openDuration(100, TimeUnit.MILLISECONDS)
+                .halfOpenCalls(2)
+                .build())
+            .build();
+        String host = server.getHostName() + ":" + server.getPort();
+        failing = true;
+        for (int i = 0; i < 2; i++) {
+            try {
+                traverson.follow("jedi").get(ItemResult.class);
+            } catch (Traverson.TraversonException ignored) {
+            }
+        }
+        assertThat(traverson.getCircuitBreaker().getState(host), CoreMatchers.is(CircuitBreaker.State.OPEN));
+
+        Thread.sleep(150);
+        failing = false;
+        ItemResult result = traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(traverson.getCircuitBreaker().getState(host), CoreMatchers.is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void rejectsRequestsBeyondHostBulkhead() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .hostBulkhead(1)
+            .build();
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<ItemResult> first = traverson.follow("jedi").getAsync(ItemResult.class);
+        arrived.await(5, TimeUnit.SECONDS);
+        try {
+            traverson.follow("jedi").get(ItemResult.class);
+            throw new AssertionError("Expected a BulkheadFullException");
+        } catch (Traverson.BulkheadFullException e) {
+            assertThat(e.getCode(), CoreMatchers.is(503));
+        }
+        gate.countDown();
+
+        assertThat(first.get().getId(), CoreMatchers.notNullValue());
+        assertThat(traverson.follow("jedi").get(ItemResult.class).getId(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void rejectsTraversalsBeyondRelBulkhead() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .relBulkhead(1)
+            .build();
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<ItemResult> first = traverson.follow("jedi").getAsync(ItemResult.class);
+        arrived.await(5, TimeUnit.SECONDS);
+        try {
+            traverson.follow("jedi").get(ItemResult.class);
+            throw new AssertionError("Expected a BulkheadFullException");
+        } catch (Traverson.BulkheadFullException e) {
+            assertThat(calls.get(), CoreMatchers.is(2));
+        }
+        gate.countDown();
+
+        assertThat(first.get().getId(), CoreMatchers.notNullValue());
+        assertThat(traverson.follow("jedi").get(ItemResult.class).getId(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void skipsRelBulkheadForUrls() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .relBulkhead(1)
+            .build();
+        gate = new CountDownLatch(1);
+
+        CompletableFuture<ItemResult> first = traverson.followUri(baseUrl + "/jedi/1").getAsync(ItemResult.class);
+        arrived.await(5, TimeUnit.SECONDS);
+        CompletableFuture<ItemResult> second = traverson.followUri(baseUrl + "/jedi/1").getAsync(ItemResult.class);
+        gate.countDown();
+
+        assertThat(first.get().getId(), CoreMatchers.notNullValue());
+        assertThat(second.get().getId(), CoreMatchers.notNullValue());
+    }
+
+    @Test
+    public void forgetsIdleBulkheadKeys() {
+        Bulkhead bulkhead = new Bulkhead(1);
+
+        assertThat(bulkhead.tryAcquire("jedi"), CoreMatchers.is(true));
+        assertThat(bulkhead.tryAcquire("jedi"), CoreMatchers.is(false));
+        assertThat(bulkhead.getActiveCalls("jedi"), CoreMatchers.is(1));
+
+        bulkhead.release("jedi");
+
+        assertThat(bulkhead.getActiveKeys(), CoreMatchers.is(0));
+        assertThat(bulkhead.tryAcquire("jedi"), CoreMatchers.is(true));
+    }
+}
@@ -0,0 +1,121 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalResourceCacheTest extends AbstractJsonHalTest {
+
+    private final List<RecordedRequest> rootRequests = new ArrayList<>();
+
+    private String cacheControl;
+
+    private String validator;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        traverson = new Traverson.Builder(baseUrl)
+            .resourceCache(10)
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    rootRequests.add(request);
+                    if (request.getHeader("If-None-Match") != null || request.getHeader("If-Modified-Since") != null) {
+                        return new MockResponse().setResponseCode(304).setHeader("Cache-Control", cacheControl);
+                    }
+
+                    MockResponse response = generateResponse(ROOT).setHeader("Cache-Control", cacheControl);
+
+                    return validator == null ? response : response.setHeader(validator, "\"v1\"");
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void servesFreshResources() throws IOException {
+        cacheControl = "max-age=60";
+
+        traverson.follow("jedi").get(ItemResult.class);
+        ItemResult result = traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(rootRequests.size(), CoreMatchers.is(1));
+        assertThat(traverson.getResourceCache().getHits(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void revalidatesWithEtag() throws IOException {
+        cacheControl = "max-age=0";
+        validator = "ETag";
+
+        traverson.follow("jedi").get(ItemResult.class);
+        ItemResult result = traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(rootRequests.size(), CoreMatchers.is(2));
+        assertThat(rootRequests.get(1).getHeader("If-None-Match"), CoreMatchers.is("\"v1\""));
+        assertThat(traverson.getResourceCache().getRevalidations(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void revalidatesWithLastModified() throws IOException {
+        cacheControl = "no-cache";
+        validator = "Last-Modified";
+
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(rootRequests.get(1).getHeader("If-Modified-Since"), CoreMatchers.is("\"v1\""));
+        assertThat(traverson.getResourceCache().getRevalidations(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void revalidatesNoCacheDespiteMaxAge() throws IOException {
+        cacheControl = "no-cache, max-age=60";
+        validator = "ETag";
+
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(rootRequests.size(), CoreMatchers.is(2));
+        assertThat(rootRequests.get(1).getHeader("If-None-Match"), CoreMatchers.is("\"v1\""));
+        assertThat(traverson.getResourceCache().getHits(), CoreMatchers.is(0L));
+        assertThat(traverson.getResourceCache().getRevalidations(), CoreMatchers.is(1L));
+    }
+
+    @Test
+    public void honorsNoStore() throws IOException {
+        cacheControl = "no-store, max-age=60";
+        validator = "ETag";
+
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(rootRequests.size(), CoreMatchers.is(2));
+        assertThat(rootRequests.get(1).getHeader("If-None-Match"), CoreMatchers.nullValue());
+        assertThat(traverson.getResourceCache().size(), CoreMatchers.is(0));
+    }
+}
@@ -0,0 +1,222 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._503;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.metrics.TraversonMetrics;
+import com.smoope.utils.traverson.retry.RetryPolicy;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+public class TraversonJsonHalRetryTest extends AbstractJsonHalTest {
+
+    private final AtomicInteger rootRequests = new AtomicInteger();
+
+    private final AtomicInteger jediRequests = new AtomicInteger();
+
+    private volatile int failures;
+
+    private volatile MockResponse failure;
+
+    private volatile long failureDelay;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        rootRequests.set(0);
+        jediRequests.set(0);
+        failures = 0;
+        failure = generateResponse(_503);
+        failureDelay = 0;
+        traverson = new Traverson.Builder(baseUrl)
+            .retryPolicy(new RetryPolicy.Builder()
+                .backoff(1, 10, TimeUnit.MILLISECONDS)
+                .build())
+            .build();
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    rootRequests.incrementAndGet();
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    if (jediRequests.incrementAndGet() > failures) {
+                        return generateResponse(ITEM);
+                    }
+                    Thread.sleep(failureDelay);
+                    return failure;
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void retriesFailedHopOnly() throws IOException {
+        failures = 2;
+
+        ItemResult result = traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(rootRequests.get(), CoreMatchers.is(1));
+        assertThat(jediRequests.get(), CoreMatchers.is(4));
+    }
+
+    @Test
+    public void retriesConnectionFailures() throws IOException {
+        failures = 1;
+        failure = new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+
+        ItemResult result = traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(jediRequests.get(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void retriesAsync() throws Exception {
+        failures = 1;
+        failure = new MockResponse().setResponseCode(429);
+
+        ItemResult result = traverson.follow("jedi").getAsync(ItemResult.class).get();
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(jediRequests.get(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void honorsRetryAfter() throws IOException {
+        failures = 1;
+        failure = generateResponse(_503).addHeader("Retry-After", "1");
+        traverson = new Traverson.Builder(baseUrl)
+            .retryPolicy(new RetryPolicy.Builder().build())
+            .build();
+
+        long start = System.currentTimeMillis();
+        traverson.follow("jedi").get(ItemResult.class);
+
+        assertThat(System.currentTimeMillis() - start >= 1000, CoreMatchers.is(true));
+        assertThat(jediRequests.get(), CoreMatchers.is(2));
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() throws IOException {
+        failures = Integer.MAX_VALUE;
+
+        try {
+            traverson.follow("jedi").get(ItemResult.class);
+        } catch (Traverson.TraversonException e) {
+            assertThat(e.getCode(), CoreMatchers.is(503));
+            assertThat(jediRequests.get(), CoreMatchers.is(3));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a TraversonException");
+    }
+
+    @Test
+    public void doesNotRetryPost() throws IOException {
+        failures = 1;
+
+        try {
+            traverson.follow("jedi").post(new Object());
+        } catch (Traverson.TraversonException e) {
+            assertThat(e.getCode(), CoreMatchers.is(503));
+            assertThat(jediRequests.get(), CoreMatchers.is(1));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a TraversonException");
+    }
+
+    @Test
+    public void hedgesSlowGet() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .retryPolicy(new RetryPolicy.Builder()
+                .hedge()
+                .build())
+            .build();
+        for (int i = 0; i < 20; i++) {
+            traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        }
+        failures = jediRequests.get() + 1;
+        failure = generateResponse(ITEM);
+        failureDelay = 3000;
+
+        long start = System.currentTimeMillis();
+        ItemResult result = traverson.follow("jedi", "lightSaber").getAsync(ItemResult.class).get();
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(System.currentTimeMillis() - start < 2000, CoreMatchers.is(true));
+    }
+
+    @Test
+    public void hedgesOnlyHops() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .retryPolicy(new RetryPolicy.Builder()
+                .hedge()
+                .build())
+            .build();
+        for (int i = 0; i < 20; i++) {
+            traverson.follow("jedi").get(ItemResult.class);
+        }
+        int before = jediRequests.get();
+        failures = before + 1;
+        failure = generateResponse(ITEM);
+        failureDelay = 500;
+
+        ItemResult result = traverson.follow("jedi").getAsync(ItemResult.class).get();
+
+        assertThat(result.getId(), CoreMatchers.notNullValue());
+        assertThat(jediRequests.get() - before, CoreMatchers.is(1));
+    }
+
+    @Test
+    public void cancelsLosingHedge() throws Exception {
+        final CountDownLatch failedCall = new CountDownLatch(1);
+        traverson = new Traverson.Builder(baseUrl)
+            .retryPolicy(new RetryPolicy.Builder()
+                .hedge()
+                .build())
+            .metrics(new TraversonMetrics() {
+                @Override
+                public void request(final String method, final String host, final int code, final long nanos) {
+                    if (code == -1) {
+                        failedCall.countDown();
+                    }
+                }
+            })
+            .build();
+        for (int i = 0; i < 20; i++) {
+            traverson.follow("jedi", "lightSaber").get(ItemResult.class);
+        }
+        failures = jediRequests.get() + 1;
+        failure = generateResponse(ITEM);
+        failureDelay = 3000;
+
+        traverson.follow("jedi", "lightSaber").getAsync(ItemResult.class).get();
+
+        // the losing call fails at once when cancelled, otherwise it would wait for the delayed response
+        assertThat(failedCall.await(1, TimeUnit.SECONDS), CoreMatchers.is(true));
+    }
+}
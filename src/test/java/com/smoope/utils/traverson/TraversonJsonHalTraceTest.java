@@ -0,0 +1,122 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.metrics.TraversonMetrics.HopSource;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalTraceTest extends AbstractJsonHalTest {
+
+    private final List<TraversalTrace> traces = new CopyOnWriteArrayList<>();
+
+    private boolean embedded;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        traces.clear();
+        embedded = false;
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return embedded
+                        ? generateResponse(ROOT).setBody("{\"_embedded\":{\"jedi\":{\"_links\":{\"lightSaber\":{\"href\":\"" + baseUrl + "/jedi/1/saber\"}}}}}")
+                        : generateResponse(ROOT).setHeader("Cache-Control", "max-age=60");
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void tracesEveryHop() throws IOException {
+        traverson.follow("jedi", "lightSaber").trace(traces::add).get(ItemResult.class);
+
+        assertThat(traces.size(), CoreMatchers.is(1));
+        TraversalTrace trace = traces.get(0);
+        assertThat(trace.isSuccess(), CoreMatchers.is(true));
+        assertThat(trace.getHops().size(), CoreMatchers.is(3));
+
+        TraversalTrace.Hop root = trace.getHops().get(0);
+        assertThat(root.getRel(), CoreMatchers.is("jedi"));
+        assertThat(root.getUrl(), CoreMatchers.is(baseUrl));
+        assertThat(root.getSource(), CoreMatchers.is(HopSource.NETWORK));
+        assertThat(root.getStatus(), CoreMatchers.is(200));
+        assertThat(root.getBytes() > 0, CoreMatchers.is(true));
+        assertThat(root.getDecodeTime() >= 0, CoreMatchers.is(true));
+        assertThat(root.getTimeToFirstByte() >= 0, CoreMatchers.is(true));
+
+        TraversalTrace.Hop last = trace.getHops().get(2);
+        assertThat(last.getRel(), CoreMatchers.nullValue());
+        assertThat(last.getUrl(), CoreMatchers.is(baseUrl + "/jedi/1/saber"));
+        assertThat(last.getStatus(), CoreMatchers.is(200));
+    }
+
+    @Test
+    public void tracesEmbeddedAndCachedHops() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .resourceCache(10)
+            .build();
+
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").trace(traces::add).get(ItemResult.class);
+        embedded = true;
+        traverson = new Traverson.Builder(baseUrl).build();
+        traverson.follow("jedi", "lightSaber").trace(traces::add).get(ItemResult.class);
+
+        TraversalTrace.Hop cached = traces.get(0).getHops().get(0);
+        assertThat(cached.getSource(), CoreMatchers.is(HopSource.CACHE));
+        assertThat(cached.getStatus(), CoreMatchers.is(-1));
+
+        TraversalTrace.Hop inEmbedded = traces.get(1).getHops().get(1);
+        assertThat(inEmbedded.getSource(), CoreMatchers.is(HopSource.EMBEDDED));
+        assertThat(inEmbedded.getUrl(), CoreMatchers.nullValue());
+    }
+
+    @Test
+    public void tracesFailures() throws IOException {
+        try {
+            traverson.follow("sith").trace(traces::add).get(ItemResult.class);
+        } catch (Traverson.TraversonException ignored) {
+        }
+
+        assertThat(traces.size(), CoreMatchers.is(1));
+        assertThat(traces.get(0).isSuccess(), CoreMatchers.is(false));
+    }
+
+    @Test
+    public void samplesTraversals() throws IOException {
+        traverson = new Traverson.Builder(baseUrl)
+            .traceSampling(0, traces::add)
+            .build();
+        traverson.follow("jedi").get(ItemResult.class);
+        assertThat(traces.size(), CoreMatchers.is(0));
+
+        traverson = new Traverson.Builder(baseUrl)
+            .traceSampling(1, traces::add)
+            .build();
+        traverson.follow("jedi").get(ItemResult.class);
+        traverson.follow("jedi").get(ItemResult.class);
+        assertThat(traces.size(), CoreMatchers.is(2));
+        assertThat(traces.get(0).getRels().get(0), CoreMatchers.is("jedi"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._201;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._401;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import com.smoope.utils.traverson.security.TraversonBasicAuthenticator;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.MediaType;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalUploadTest extends AbstractJsonHalTest {
+
+    private static final MediaType TEXT = MediaType.parse("text/plain");
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private Path file;
+
+    private boolean secured;
+
+    private List<RecordedRequest> uploads;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        secured = false;
+        uploads = new ArrayList<>();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    return generateResponse(ROOT);
+                } else if (request.getPath().equals("/api/jedi") && !request.getMethod().equals("GET")) {
+                    uploads.add(request);
+                    return secured && request.getHeader("Authorization") == null
+                        ? generateResponse(_401)
+                        : generateResponse(_201);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+
+        try {
+            file = Files.createTempFile("traverson", ".upload");
+            Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @After
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void postsFile() throws IOException {
+        traverson.follow("jedi").post(StreamingBody.create(TEXT, file));
+
+        RecordedRequest upload = uploads.get(0);
+        assertThat(upload.getMethod(), CoreMatchers.is("POST"));
+        assertThat(upload.getHeader("Content-Type"), CoreMatchers.is("text/plain"));
+        assertThat(upload.getHeader("Content-Length"), CoreMatchers.is(String.valueOf(CONTENT.length())));
+        assertThat(upload.getBody().readUtf8(), CoreMatchers.is(CONTENT));
+    }
+
+    @Test
+    public void putsStreamChunked() throws IOException {
+        traverson.follow("jedi")
+            .put(StreamingBody.create(TEXT, new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+
+        RecordedRequest upload = uploads.get(0);
+        assertThat(upload.getMethod(), CoreMatchers.is("PUT"));
+        assertThat(upload.getHeader("Transfer-Encoding"), CoreMatchers.is("chunked"));
+        assertThat(upload.getBody().readUtf8(), CoreMatchers.is(CONTENT));
+    }
+
+    @Test
+    public void postsChunksWithProgress() throws IOException {
+        final Iterator<String> chunks = Arrays.asList("0123", "4567", "89").iterator();
+        final List<Long> progress = new ArrayList<>();
+
+        traverson.follow("jedi")
+            .progress((bytes, contentLength) -> progress.add(bytes))
+            .post(StreamingBody.chunked(TEXT, () -> chunks.hasNext() ? chunks.next().getBytes(StandardCharsets.UTF_8) : null));
+
+        assertThat(uploads.get(0).getBody().readUtf8(), CoreMatchers.is("0123456789"));
+        assertThat(uploads.get(0).getChunkSizes().size() > 1, CoreMatchers.is(true));
+        assertThat(progress.get(progress.size() - 1), CoreMatchers.is(10L));
+    }
+
+    @Test
+    public void replaysBodyAfter401() throws IOException {
+        secured = true;
+        final AtomicInteger opened = new AtomicInteger();
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(new TraversonBasicAuthenticator("luke", "skywalker"))
+            .build();
+
+        traverson.follow("jedi").post(StreamingBody.create(TEXT, () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }));
+
+        assertThat(opened.get(), CoreMatchers.is(2));
+        assertThat(uploads.size(), CoreMatchers.is(2));
+        assertThat(uploads.get(1).getHeader("Authorization"), CoreMatchers.notNullValue());
+        assertThat(uploads.get(1).getBody().readUtf8(), CoreMatchers.is(CONTENT));
+    }
+
+    @Test
+    public void reports401ForConsumedBody() throws IOException {
+        secured = true;
+        traverson = new Traverson.Builder(baseUrl)
+            .authenticator(new TraversonBasicAuthenticator("luke", "skywalker"))
+            .build();
+
+        try {
+            traverson.follow("jedi")
+                .post(StreamingBody.create(TEXT, new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))));
+        } catch (Traverson.TraversonException e) {
+            assertThat(e.getCode(), CoreMatchers.is(401));
+            assertThat(uploads.size(), CoreMatchers.is(1));
+
+            return;
+        }
+
+        throw new AssertionError("Expected a TraversonException");
+    }
+}
@@ -0,0 +1,89 @@
+package com.smoope.utils.traverson;
+
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ITEM;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response.ROOT;
+import static com.smoope.utils.traverson.AbstractTraversonTest.Response._404;
+import static org.junit.Assert.assertThat;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TraversonJsonHalWarmUpTest extends AbstractJsonHalTest {
+
+    private CountDownLatch rootReleased;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        rootReleased = new CountDownLatch(0);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().equals("/api")) {
+                    rootReleased.await(5, TimeUnit.SECONDS);
+                    return generateResponse(ROOT);
+                } else if (request.getPath().startsWith("/api/jedi")) {
+                    return generateResponse(ITEM);
+                } else {
+                    return generateResponse(_404);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void warmsUpEagerly() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .warmUp(new String[] { "jedi" }, new String[] { "jedi", "lightSaber" })
+            .build();
+
+        assertThat(traverson.getWarmUp().isDone(), CoreMatchers.is(true));
+        assertThat(server.getRequestCount(), CoreMatchers.is(6));
+
+        WarmUpReport report = traverson.getWarmUp().get();
+        assertThat(report.isSuccess(), CoreMatchers.is(true));
+        assertThat(report.getRootTime() > 0, CoreMatchers.is(true));
+        assertThat(report.getPathTimes().get("jedi/lightSaber") > 0, CoreMatchers.is(true));
+        assertThat(report.getDuration() >= report.getRootTime(), CoreMatchers.is(true));
+    }
+
+    @Test
+    public void warmsUpInBackground() throws Exception {
+        rootReleased = new CountDownLatch(1);
+        traverson = new Traverson.Builder(baseUrl)
+            .warmUp(true, new String[] { "jedi" })
+            .build();
+
+        assertThat(traverson.getWarmUp().isDone(), CoreMatchers.is(false));
+        rootReleased.countDown();
+
+        assertThat(traverson.getWarmUp().get(5, TimeUnit.SECONDS).isSuccess(), CoreMatchers.is(true));
+    }
+
+    @Test
+    public void recordsFailures() throws Exception {
+        traverson = new Traverson.Builder(baseUrl)
+            .warmUp(new String[] { "sith" })
+            .build();
+
+        WarmUpReport report = traverson.getWarmUp().get();
+        assertThat(report.isSuccess(), CoreMatchers.is(false));
+        assertThat(report.getFailures().get("sith"), CoreMatchers.instanceOf(Traverson.TraversonException.class));
+        assertThat(report.getFailures().containsKey(""), CoreMatchers.is(false));
+    }
+
+    @Test
+    public void skipsWarmUpByDefault() {
+        assertThat(traverson.getWarmUp(), CoreMatchers.nullValue());
+        assertThat(server.getRequestCount(), CoreMatchers.is(0));
+    }
+}
@@ -5,6 +5,12 @@ import com.smoope.utils.traverson.utils.UriTemplate;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class UriTemplateTest {
 
     @Test
@@ -52,4 +58,36 @@ public class UriTemplateTest {
 
         Assert.assertEquals(result, "http://localhost?key1=12345&key2=12345&key3=12345&key4=12345");
     }
+
+    @Test
+    public void testImmutable() {
+        UriTemplate template = UriTemplate.fromUri("http://localhost/jedi{?page,sort}");
+        String result = template.expand("page", "1");
+
+        Assert.assertEquals(result, "http://localhost/jedi?page=1");
+        Assert.assertEquals(template.toString(), "http://localhost/jedi{?page,sort}");
+        Assert.assertEquals(template.expand("sort", "name"), "http://localhost/jedi?sort=name");
+    }
+
+    @Test
+    public void testCache() {
+        Assert.assertSame(UriTemplate.fromUri("http://localhost/sith{?page}"), UriTemplate.fromUri("http://localhost/sith{?page}"));
+    }
+
+    @Test
+    public void testConcurrentExpansion() throws Exception {
+        final UriTemplate template = UriTemplate.fromUri("http://localhost/jedi/{id}");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final String id = String.valueOf(i);
+            results.add(executor.submit(() -> template.expand("id", id).equals("http://localhost/jedi/" + id)));
+        }
+        for (Future<Boolean> result : results) {
+            Assert.assertTrue(result.get());
+        }
+
+        executor.shutdown();
+    }
 }